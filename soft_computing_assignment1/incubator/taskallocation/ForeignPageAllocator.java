@@ -0,0 +1,41 @@
+package taskallocation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+// GenomeArena pages on jdk.incubator.foreign; only loaded when that module is
+// present. All pages share one scope, so closing the arena frees native pages
+// and unmaps file pages at once, and any genome still pointing into them
+// fails on access instead of reading freed memory.
+final class ForeignPageAllocator implements GenomeArena.PageAllocator {
+    private final ResourceScope scope = ResourceScope.newSharedScope();
+    private final Path directory;
+
+    ForeignPageAllocator(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public ByteBuffer allocate(int bytes) throws IOException {
+        if (directory == null) {
+            return MemorySegment.allocateNative(bytes, GenomeArena.SLOT_ALIGNMENT, scope).asByteBuffer();
+        }
+        Path file = Files.createTempFile(directory, "genomes-", ".bin");
+        try {
+            return MemorySegment.mapFile(file, 0, bytes, FileChannel.MapMode.READ_WRITE, scope).asByteBuffer();
+        } finally {
+            // The mapping outlives the file's name on POSIX systems
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
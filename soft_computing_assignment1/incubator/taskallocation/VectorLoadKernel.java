@@ -0,0 +1,176 @@
+package taskallocation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD kernel on jdk.incubator.vector; only loaded when that module is
+// present. Task times are ANDed with a lane selector (all ones for tasks on
+// the core being summed) and added in int lanes. For BitGenome the selector
+// is built from the genome's word bits, for ByteGenome by comparing a block
+// of genes with the core index (one pass per core, so it is used up to
+// MAX_VECTOR_CORES cores). GenomeArena genomes are read straight from their
+// page. Only plain lanewise operations are used: on JDK 17 mask conversions
+// such as VectorMask.fromLong are not intrinsified and would allocate per
+// lane block.
+//
+// Lanes are reduced to a long before the int sums can overflow: each piece
+// covers at most Integer.MAX_VALUE / (largest |time|) tasks. Contexts with
+// times too large for a 64-task piece, and anything else unsupported, go to
+// the scalar kernel.
+final class VectorLoadKernel extends LoadKernel {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> GENES = geneSpecies();
+    private static final int MAX_VECTOR_CORES = 8;
+    // 1 << lane in every lane
+    private static final IntVector LANE_BIT = laneBits();
+
+    private final ScalarLoadKernel scalar = new ScalarLoadKernel();
+
+    @Override
+    public String name() {
+        return "vector (" + INTS.length() + " int lanes)";
+    }
+
+    @Override
+    protected void accumulate(Genome genome, ProblemContext context, int from, int to, long[] loads) {
+        long magnitude = Math.max(1, Math.max(context.getLongestTask(), -(long) context.getShortestTask()));
+        int piece = (int) (Integer.MAX_VALUE / magnitude) & ~63;
+        boolean bits = (genome instanceof BitGenome || genome instanceof OffHeapBitGenome)
+                && INTS.length() <= Integer.SIZE;
+        boolean bytes = (genome instanceof ByteGenome || genome instanceof OffHeapByteGenome)
+                && GENES != null && genome.numCores() <= MAX_VECTOR_CORES;
+        if (piece < 64 || (!bits && !bytes)) {
+            scalar.accumulate(genome, context, from, to, loads);
+            return;
+        }
+        int[] times = context.taskTimes();
+        for (int start = from; start < to; start += piece) {
+            int end = (int) Math.min(to, (long) start + piece);
+            if (genome instanceof BitGenome) {
+                loads[1] += sumSetBits(((BitGenome) genome).words(), times, start, end);
+            } else if (genome instanceof OffHeapBitGenome) {
+                loads[1] += sumSetBits((OffHeapBitGenome) genome, times, start, end);
+            } else if (genome instanceof ByteGenome) {
+                byte[] genes = ((ByteGenome) genome).genes();
+                for (int gene = 1; gene < genome.numCores(); gene++) {
+                    loads[gene] += sumGene(genes, (byte) gene, times, start, end);
+                }
+            } else {
+                OffHeapByteGenome genes = (OffHeapByteGenome) genome;
+                for (int gene = 1; gene < genome.numCores(); gene++) {
+                    loads[gene] += sumGene(genes.page(), genes.offset(), (byte) gene, times, start, end);
+                }
+            }
+        }
+    }
+
+    // Branch-free over whole words: a conditional inside the loop stops C2
+    // from keeping the accumulator in a register on JDK 17, and it would be
+    // boxed every iteration
+    private static long sumSetBits(long[] words, int[] times, int from, int to) {
+        IntVector sum = IntVector.zero(INTS);
+        int w = from >>> 6;
+        for (; (w << 6) + 64 <= to; w++) {
+            sum = addSetBits(sum, words[w], times, w << 6);
+        }
+        // Last, partial word
+        long tail = w << 6 < to ? sumSetBits(words[w], times, w << 6) : 0;
+        return sum.reduceLanes(VectorOperators.ADD) + tail;
+    }
+
+    private static long sumSetBits(OffHeapBitGenome genome, int[] times, int from, int to) {
+        IntVector sum = IntVector.zero(INTS);
+        int w = from >>> 6;
+        for (; (w << 6) + 64 <= to; w++) {
+            sum = addSetBits(sum, genome.word(w), times, w << 6);
+        }
+        long tail = w << 6 < to ? sumSetBits(genome.word(w), times, w << 6) : 0;
+        return sum.reduceLanes(VectorOperators.ADD) + tail;
+    }
+
+    // Adds the times of the 64 tasks from base whose bit is set in word
+    private static IntVector addSetBits(IntVector sum, long word, int[] times, int base) {
+        int lanes = INTS.length();
+        long laneMask = (1L << lanes) - 1;
+        for (int lane = 0; lane < 64; lane += lanes) {
+            // x | -x has the sign bit set exactly when x != 0
+            IntVector laneBit = IntVector.broadcast(INTS, (int) ((word >>> lane) & laneMask)).and(LANE_BIT);
+            IntVector selected = laneBit.or(laneBit.neg()).lanewise(VectorOperators.ASHR, 31);
+            sum = sum.add(IntVector.fromArray(INTS, times, base + lane).and(selected));
+        }
+        return sum;
+    }
+
+    private static long sumSetBits(long word, int[] times, int base) {
+        long sum = 0;
+        while (word != 0) {
+            sum += times[base + Long.numberOfTrailingZeros(word)];
+            word &= word - 1;
+        }
+        return sum;
+    }
+
+    private static long sumGene(byte[] genes, byte gene, int[] times, int from, int to) {
+        int lanes = INTS.length();
+        IntVector sum = IntVector.zero(INTS);
+        int i = from;
+        for (; i <= to - lanes; i += lanes) {
+            IntVector selected = selectGene(ByteVector.fromArray(GENES, genes, i), gene);
+            sum = sum.add(IntVector.fromArray(INTS, times, i).and(selected));
+        }
+        long tail = 0;
+        for (; i < to; i++) {
+            if (genes[i] == gene) {
+                tail += times[i];
+            }
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + tail;
+    }
+
+    private static long sumGene(ByteBuffer page, int offset, byte gene, int[] times, int from, int to) {
+        int lanes = INTS.length();
+        IntVector sum = IntVector.zero(INTS);
+        int i = from;
+        for (; i <= to - lanes; i += lanes) {
+            IntVector selected = selectGene(ByteVector.fromByteBuffer(GENES, page, offset + i, ByteOrder.nativeOrder()),
+                    gene);
+            sum = sum.add(IntVector.fromArray(INTS, times, i).and(selected));
+        }
+        long tail = 0;
+        for (; i < to; i++) {
+            if (page.get(offset + i) == gene) {
+                tail += times[i];
+            }
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + tail;
+    }
+
+    // All ones in the lanes whose gene equals `gene`, zero elsewhere
+    private static IntVector selectGene(ByteVector genes, byte gene) {
+        IntVector geneLanes = (IntVector) genes.convertShape(VectorOperators.B2I, INTS, 0);
+        // (difference - 1) >>> 31 is 1 only where the difference is 0
+        return geneLanes.lanewise(VectorOperators.XOR, gene).sub(1).lanewise(VectorOperators.LSHR, 31).neg();
+    }
+
+    private static IntVector laneBits() {
+        int[] bits = new int[INTS.length()];
+        for (int lane = 0; lane < bits.length && lane < Integer.SIZE; lane++) {
+            bits[lane] = 1 << lane;
+        }
+        return IntVector.fromArray(INTS, bits, 0);
+    }
+
+    // Byte lanes matching the int lane count, or null if no such shape exists
+    private static VectorSpecies<Byte> geneSpecies() {
+        try {
+            return VectorSpecies.of(byte.class, VectorShape.forBitSize(INTS.length() * Byte.SIZE));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+
+// Reproducible random instances shared by the benchmarks
+final class BenchmarkData {
+    private BenchmarkData() {
+    }
+
+    static TestCase testCase(int numTasks) {
+        SplittableRandom rand = new SplittableRandom(42);
+        int[] taskTimes = new int[numTasks];
+        long total = 0;
+        for (int i = 0; i < numTasks; i++) {
+            taskTimes[i] = 1 + rand.nextInt(1000);
+            total += taskTimes[i];
+        }
+        // Loose enough that most random assignments are feasible
+        int maxTimeLimit = (int) Math.min(Integer.MAX_VALUE, total * 3 / 4);
+        return new TestCase(numTasks, maxTimeLimit, taskTimes);
+    }
+
+    // Like testCase, but every time is even and the total is twice an odd
+    // number, so no two-core split meets the lower bound of total / 2
+    static TestCase testCaseWithUnreachableBound(int numTasks) {
+        int[] taskTimes = testCase(numTasks).taskTimes;
+        long total = 0;
+        for (int i = 0; i < numTasks; i++) {
+            taskTimes[i] *= 2;
+            total += taskTimes[i];
+        }
+        if (total % 4 == 0) {
+            taskTimes[0] += 2;
+            total += 2;
+        }
+        int maxTimeLimit = (int) Math.min(Integer.MAX_VALUE, total * 3 / 4);
+        return new TestCase(numTasks, maxTimeLimit, taskTimes);
+    }
+}
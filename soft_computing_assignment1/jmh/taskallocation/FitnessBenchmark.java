@@ -0,0 +1,57 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class FitnessBenchmark {
+    private static final int BATCH = 32;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int tasks;
+
+    @Param({"2", "4", "16"})
+    public int cores;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private Chromosome chromosome;
+    private ProblemContext context;
+    private Genome[] batch;
+    private long[][] batchLoads;
+
+    @Setup
+    public void setUp() {
+        LoadKernel.use(kernel);
+        context = new ProblemContext(BenchmarkData.testCase(tasks), cores);
+        SplittableRandom rand = new SplittableRandom(1);
+        chromosome = new Chromosome(context, rand);
+        batch = new Genome[BATCH];
+        batchLoads = new long[BATCH][cores];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = context.newGenome();
+            batch[i].randomize(rand);
+        }
+    }
+
+    @Benchmark
+    public int evaluateFitness() {
+        chromosome.evaluateFitness();
+        return chromosome.getFitness();
+    }
+
+    // Per genome, comparable with evaluateFitness
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long[][] batchedLoads() {
+        LoadKernel.active().computeLoads(batch, BATCH, context, batchLoads);
+        return batchLoads;
+    }
+}
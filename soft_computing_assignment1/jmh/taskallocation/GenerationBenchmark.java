@@ -0,0 +1,50 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.foreign")
+public class GenerationBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int tasks;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    // Genomes on the heap or in a GenomeArena
+    @Param({"heap", "off-heap"})
+    public String storage;
+
+    private GenomeArena arena;
+    private Population population;
+
+    @Setup
+    public void setUp() {
+        if (storage.equals("off-heap")) {
+            arena = new GenomeArena(tasks, 2, 2 * populationSize + 2, null);
+        }
+        ProblemContext context = new ProblemContext(BenchmarkData.testCase(tasks), 2, arena);
+        population = new Population(populationSize, context, 0.8, 0.05,
+                SelectionStrategy.create("roulette"), new SplittableRandom(1), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+
+    // One generation of selection, crossover, mutation and elitism
+    @Benchmark
+    public Population evolve() {
+        population.evolve();
+        return population;
+    }
+}
@@ -0,0 +1,66 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperatorBenchmark {
+    private static final double MUTATION_RATE = 0.05;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int tasks;
+
+    @Param({"2", "16"})
+    public int cores;
+
+    private SplittableRandom rand;
+    private Chromosome parent1;
+    private Chromosome parent2;
+    private Chromosome child;
+    // Repair of a random assignment under a limit one longest task above the
+    // lower bound, which random assignments almost always overshoot
+    private RepairOperator repair;
+    private Chromosome overloaded;
+    private Chromosome repaired;
+
+    @Setup
+    public void setUp() {
+        ProblemContext context = new ProblemContext(BenchmarkData.testCase(tasks), cores);
+        rand = new SplittableRandom(1);
+        parent1 = new Chromosome(context, rand);
+        parent2 = new Chromosome(context, rand);
+        child = new Chromosome(context, rand);
+
+        TestCase testCase = BenchmarkData.testCase(tasks);
+        ProblemContext tight = new ProblemContext(testCase.taskTimes,
+                (int) Math.min(Integer.MAX_VALUE, context.getLowerBound() + context.getLongestTask()), cores);
+        repair = new RepairOperator(tight, 4096);
+        overloaded = new Chromosome(tight, rand);
+        repaired = new Chromosome(tight.newGenome(), tight);
+    }
+
+    @Benchmark
+    public int onePointCrossover() {
+        child.onePointCrossover(parent1, parent2, 1 + rand.nextInt(tasks - 1));
+        return child.getFitness();
+    }
+
+    @Benchmark
+    public int mutate() {
+        child.mutate(MUTATION_RATE, rand);
+        return child.getFitness();
+    }
+
+    @Benchmark
+    public int repair() {
+        repaired.copyFrom(overloaded);
+        repair.repair(repaired);
+        return repaired.getFitness();
+    }
+}
@@ -0,0 +1,51 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Warm re-plan after a small change (two arrivals, two departures), to set
+// against a cold RunGABenchmark.runGA of the same size
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplanBenchmark {
+    @Param({"1000", "100000"})
+    public int tasks;
+
+    @Param({"2", "8"})
+    public int cores;
+
+    private SplittableRandom rand;
+    private OnlineScheduler scheduler;
+    // Ids of the tasks currently scheduled
+    private int[] live;
+    private int liveCount;
+
+    @Setup
+    public void setUp() {
+        rand = new SplittableRandom(1);
+        TestCase testCase = BenchmarkData.testCase(tasks);
+        scheduler = new OnlineScheduler(testCase.taskTimes, testCase.maxTimeLimit,
+                GAOptions.parse(new String[] {"--seed", "1", "--cores", Integer.toString(cores)}));
+        scheduler.replan();
+        live = new int[tasks + 1024];
+        for (int id = 0; id < tasks; id++) {
+            live[liveCount++] = id;
+        }
+    }
+
+    @Benchmark
+    public GAResult replan() {
+        for (int k = 0; k < 2; k++) {
+            live[liveCount++] = scheduler.addTask(1 + rand.nextInt(1000));
+            int victim = rand.nextInt(liveCount);
+            scheduler.removeTask(live[victim]);
+            live[victim] = live[--liveCount];
+        }
+        return scheduler.replan();
+    }
+}
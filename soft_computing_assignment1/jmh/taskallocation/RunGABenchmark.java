@@ -0,0 +1,53 @@
+package taskallocation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// End-to-end runGA over a fixed number of generations with a fixed seed.
+// Heuristic seeding is off and the instance's bound is out of reach, so
+// no run stops early on optimal-by-bound and the timing covers evolution
+// rather than the seeder. The generations the runs went through are
+// reported next to the timing as generations/runs.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RunGABenchmark {
+    private static final int GENERATIONS = 200;
+
+    @Param({"10", "1000", "100000"})
+    public int tasks;
+
+    private TestCase testCase;
+    private GAOptions options;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Progress {
+        public long generations;
+        public long runs;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            generations = 0;
+            runs = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        testCase = BenchmarkData.testCaseWithUnreachableBound(tasks);
+        options = GAOptions.parse(new String[] {"--seed", "1", "--heuristic-fraction", "0",
+                "--generations", Integer.toString(GENERATIONS)});
+    }
+
+    @Benchmark
+    public GAResult runGA(Progress progress) {
+        GAResult result = TaskAllocationGA.runGA(testCase, options);
+        progress.generations += result.getGenerations();
+        progress.runs++;
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// One generation's worth of parent selection: prepare the strategy, then
+// draw one parent per population slot
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int populationSize;
+
+    @Param({"roulette", "rank", "tournament"})
+    public String strategy;
+
+    private SplittableRandom rand;
+    private Chromosome[] chromosomes;
+    private SelectionStrategy selection;
+
+    @Setup
+    public void setUp() {
+        ProblemContext context = new ProblemContext(BenchmarkData.testCase(100));
+        rand = new SplittableRandom(1);
+        chromosomes = new Chromosome[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            chromosomes[i] = new Chromosome(context, rand);
+        }
+        selection = SelectionStrategy.create(strategy);
+    }
+
+    @Benchmark
+    public void selectGeneration(Blackhole blackhole) {
+        selection.prepare(chromosomes);
+        for (int i = 0; i < populationSize; i++) {
+            blackhole.consume(selection.select(rand));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package taskallocation;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+// Solves test cases on a fixed pool of worker threads and hands the results
+// back in input order. At most `window` test cases are in flight at once, so
+// memory stays bounded no matter how many test cases the input holds.
+public class BatchSolver implements AutoCloseable {
+    public interface ResultHandler {
+        void accept(int index, GAResult result);
+    }
+
+    private final ExecutorService pool;
+    private final int window;
+
+    public BatchSolver(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ga-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.window = threads * 4;
+    }
+
+    public void solveAll(Iterable<TestCase> testCases, Function<TestCase, GAResult> solver, ResultHandler handler) {
+        Deque<Future<GAResult>> inFlight = new ArrayDeque<>(window);
+        int nextIndex = 0;
+
+        for (TestCase testCase : testCases) {
+            if (inFlight.size() == window) {
+                handler.accept(nextIndex++, await(inFlight.removeFirst()));
+            }
+            inFlight.addLast(pool.submit(() -> solver.apply(testCase)));
+        }
+
+        while (!inFlight.isEmpty()) {
+            handler.accept(nextIndex++, await(inFlight.removeFirst()));
+        }
+    }
+
+    private static GAResult await(Future<GAResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a test case", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,207 @@
+package taskallocation;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Two-core genome packed 64 genes per long. Bits past `length` in the last
+// word are always kept clear so whole-word operations never see stray genes.
+public final class BitGenome implements Genome {
+    private final long[] words;
+    private final int length;
+
+    public BitGenome(int length) {
+        this.length = length;
+        this.words = new long[(length + 63) >>> 6];
+    }
+
+    public BitGenome(int[] genes) {
+        this(genes.length);
+        for (int i = 0; i < genes.length; i++) {
+            if (genes[i] != 0) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    // Backing words, for the load kernels
+    long[] words() {
+        return words;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public int numCores() {
+        return 2;
+    }
+
+    @Override
+    public int get(int index) {
+        return (int) (words[index >>> 6] >>> index) & 1;
+    }
+
+    @Override
+    public void set(int index, int value) {
+        if (value != 0) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Override
+    public void randomize(RandomGenerator rand) {
+        for (int w = 0; w < words.length; w++) {
+            words[w] = rand.nextLong();
+        }
+        clearTail();
+    }
+
+    @Override
+    public void copyFrom(Genome other) {
+        BitGenome source = (BitGenome) other;
+        System.arraycopy(source.words, 0, words, 0, words.length);
+    }
+
+    @Override
+    public void splice(Genome head, Genome tail, int point) {
+        long[] headWords = ((BitGenome) head).words;
+        long[] tailWords = ((BitGenome) tail).words;
+        int w = point >>> 6;
+        System.arraycopy(headWords, 0, words, 0, w);
+        if (w < words.length) {
+            long headMask = (1L << point) - 1;
+            words[w] = (headWords[w] & headMask) | (tailWords[w] & ~headMask);
+            System.arraycopy(tailWords, w + 1, words, w + 1, words.length - w - 1);
+        }
+    }
+
+    // Number of genes set to 1
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public void computeLoads(ProblemContext context, long[] loads) {
+        // Walk whichever side has fewer genes and derive the other from the total
+        long core1Time;
+        if (cardinality() * 2 <= length) {
+            core1Time = sumOfBits(context, false);
+        } else {
+            core1Time = context.getTotalTime() - sumOfBits(context, true);
+        }
+        loads[1] = core1Time;
+        loads[0] = context.getTotalTime() - core1Time;
+    }
+
+    private long sumOfBits(ProblemContext context, boolean clearBits) {
+        long sum = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = clearBits ? ~words[w] & validMask(w) : words[w];
+            int base = w << 6;
+            while (word != 0) {
+                sum += context.getTaskExecutionTime(base + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public void applyDelta(Genome other, int from, int to, ProblemContext context, long[] loads) {
+        long[] otherWords = ((BitGenome) other).words;
+        long delta = 0;
+        for (int w = from >>> 6; w < words.length && (w << 6) < to; w++) {
+            int base = w << 6;
+            long rangeMask = -1L;
+            if (from > base) {
+                rangeMask &= -1L << from;
+            }
+            if (to - base < 64) {
+                rangeMask &= (1L << to) - 1;
+            }
+            long diff = (words[w] ^ otherWords[w]) & rangeMask;
+            while (diff != 0) {
+                int bit = Long.numberOfTrailingZeros(diff);
+                int time = context.getTaskExecutionTime(base + bit);
+                delta += ((otherWords[w] >>> bit) & 1) != 0 ? time : -time;
+                diff &= diff - 1;
+            }
+        }
+        loads[1] += delta;
+        loads[0] -= delta;
+    }
+
+    private long validMask(int w) {
+        int remaining = length - (w << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    private void clearTail() {
+        if (words.length > 0) {
+            words[words.length - 1] &= validMask(words.length - 1);
+        }
+    }
+
+    @Override
+    public BitGenome copy() {
+        BitGenome copy = new BitGenome(length);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    @Override
+    public BitGenome resized(int newLength) {
+        BitGenome copy = new BitGenome(newLength);
+        System.arraycopy(words, 0, copy.words, 0, Math.min(words.length, copy.words.length));
+        copy.clearTail();
+        return copy;
+    }
+
+    @Override
+    public int encodedSize() {
+        return words.length * Long.BYTES;
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+    }
+
+    @Override
+    public void readFrom(ByteBuffer buffer) {
+        for (int w = 0; w < words.length; w++) {
+            words[w] = buffer.getLong();
+        }
+        clearTail();
+    }
+
+    @Override
+    public long longHash() {
+        long hash = length;
+        for (long word : words) {
+            hash = hash * 0x9E3779B97F4A7C15L + word;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BitGenome && ((BitGenome) o).length == length && Arrays.equals(((BitGenome) o).words, words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,148 @@
+package taskallocation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Genome for more than two cores: one unsigned byte per task, so up to 256 cores.
+public final class ByteGenome implements Genome {
+    public static final int MAX_CORES = 256;
+    private static final VarHandle BIG_ENDIAN_WORDS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final byte[] genes;
+    private final int numCores;
+
+    public ByteGenome(int length, int numCores) {
+        if (numCores < 1 || numCores > MAX_CORES) {
+            throw new IllegalArgumentException("Number of cores must be between 1 and " + MAX_CORES + ": " + numCores);
+        }
+        this.genes = new byte[length];
+        this.numCores = numCores;
+    }
+
+    // Backing genes, for the load kernels
+    byte[] genes() {
+        return genes;
+    }
+
+    @Override
+    public int length() {
+        return genes.length;
+    }
+
+    @Override
+    public int numCores() {
+        return numCores;
+    }
+
+    @Override
+    public int get(int index) {
+        return genes[index] & 0xFF;
+    }
+
+    @Override
+    public void set(int index, int value) {
+        genes[index] = (byte) value;
+    }
+
+    @Override
+    public void randomize(RandomGenerator rand) {
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = (byte) rand.nextInt(numCores);
+        }
+    }
+
+    @Override
+    public void copyFrom(Genome other) {
+        System.arraycopy(((ByteGenome) other).genes, 0, genes, 0, genes.length);
+    }
+
+    @Override
+    public void splice(Genome head, Genome tail, int point) {
+        System.arraycopy(((ByteGenome) head).genes, 0, genes, 0, point);
+        System.arraycopy(((ByteGenome) tail).genes, point, genes, point, genes.length - point);
+    }
+
+    @Override
+    public void computeLoads(ProblemContext context, long[] loads) {
+        Arrays.fill(loads, 0);
+        for (int i = 0; i < genes.length; i++) {
+            loads[genes[i] & 0xFF] += context.getTaskExecutionTime(i);
+        }
+    }
+
+    @Override
+    public void applyDelta(Genome other, int from, int to, ProblemContext context, long[] loads) {
+        byte[] otherGenes = ((ByteGenome) other).genes;
+        for (int i = from; i < to; i++) {
+            if (genes[i] != otherGenes[i]) {
+                int time = context.getTaskExecutionTime(i);
+                loads[genes[i] & 0xFF] -= time;
+                loads[otherGenes[i] & 0xFF] += time;
+            }
+        }
+    }
+
+    @Override
+    public ByteGenome copy() {
+        ByteGenome copy = new ByteGenome(genes.length, numCores);
+        System.arraycopy(genes, 0, copy.genes, 0, genes.length);
+        return copy;
+    }
+
+    @Override
+    public ByteGenome resized(int length) {
+        ByteGenome copy = new ByteGenome(length, numCores);
+        System.arraycopy(genes, 0, copy.genes, 0, Math.min(genes.length, length));
+        return copy;
+    }
+
+    @Override
+    public int encodedSize() {
+        return genes.length;
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(genes);
+    }
+
+    @Override
+    public void readFrom(ByteBuffer buffer) {
+        buffer.get(genes);
+        for (byte gene : genes) {
+            if ((gene & 0xFF) >= numCores) {
+                throw new IllegalArgumentException("Gene " + (gene & 0xFF) + " out of range for " + numCores + " cores");
+            }
+        }
+    }
+
+    @Override
+    public long longHash() {
+        // Eight genes per multiply, read as one big-endian word
+        long hash = genes.length;
+        int i = 0;
+        for (; i + Long.BYTES <= genes.length; i += Long.BYTES) {
+            hash = hash * 0x9E3779B97F4A7C15L + (long) BIG_ENDIAN_WORDS.get(genes, i);
+        }
+        long word = 0;
+        for (; i < genes.length; i++) {
+            word = word << 8 | (genes[i] & 0xFF);
+        }
+        return hash * 0x9E3779B97F4A7C15L + word;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ByteGenome && ((ByteGenome) o).numCores == numCores && Arrays.equals(((ByteGenome) o).genes, genes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(genes);
+    }
+}
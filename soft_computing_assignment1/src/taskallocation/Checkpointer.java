@@ -0,0 +1,196 @@
+package taskallocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Periodic snapshots of a population, one file per run. Layout (big-endian):
+//   int magic "GACK", int version, long problem fingerprint,
+//   int numTasks, int numCores, int populationSize,
+//   int generation, int lastImprovement, long evaluations, long elapsedNanos,
+//   long random seed,
+//   then for each chromosome and finally the elite: int fitness, genome bytes
+// (BitGenome as 64-gene words, ByteGenome as one byte per gene).
+//
+// Checkpoints fall on generations where the population has just reseeded its
+// random streams, and the seed is stored, so a resumed run replays the
+// original from that generation on. Deduplication keeps no state from one
+// generation to the next, so this holds with --dedup too.
+//
+// The generation thread only copies the state into a reused buffer; a
+// background thread writes it to a temporary file through a FileChannel and
+// renames it over the previous checkpoint. A checkpoint that falls due while
+// the last one is still being written is skipped rather than waited for.
+public class Checkpointer implements AutoCloseable {
+    private static final int MAGIC = 0x4741434B;
+    // 2: infeasible fitness is graded instead of Integer.MAX_VALUE
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 * 5 + 8 * 3;
+
+    private final Path file;
+    private final int interval;
+    private final ByteBuffer buffer;
+    private final long fingerprint;
+    private final ExecutorService writer;
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private Future<?> pending;
+
+    public Checkpointer(Path file, int interval, Population population, ProblemContext context) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + interval);
+        }
+        int reseedInterval = population.getReseedInterval();
+        if (reseedInterval < 1 || interval % reseedInterval != 0) {
+            throw new IllegalArgumentException("Checkpoint interval " + interval
+                    + " is not a multiple of the population's reseed interval " + reseedInterval);
+        }
+        this.file = file;
+        this.interval = interval;
+        this.fingerprint = fingerprint(context);
+        int genomeBytes = population.getBestSoFar().getGenome().encodedSize();
+        this.buffer = ByteBuffer.allocateDirect(HEADER_BYTES + (population.size() + 1) * (4 + genomeBytes));
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "ga-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Called after every generation
+    public void afterGeneration(Population population) {
+        if (population.getGeneration() % interval != 0) {
+            return;
+        }
+        rethrowFailure();
+        if (!writing.compareAndSet(false, true)) {
+            return;
+        }
+        snapshot(population, population.getSeed());
+        pending = writer.submit(() -> {
+            try {
+                write();
+            } finally {
+                writing.set(false);
+            }
+            return null;
+        });
+    }
+
+    private void snapshot(Population population, long seed) {
+        buffer.clear();
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(fingerprint);
+        Genome genome = population.getBestSoFar().getGenome();
+        buffer.putInt(genome.length()).putInt(genome.numCores()).putInt(population.size());
+        buffer.putInt(population.getGeneration()).putInt(population.getLastImprovement());
+        buffer.putLong(population.getEvaluations()).putLong(population.getElapsedNanos()).putLong(seed);
+        for (Chromosome chromosome : population.chromosomes) {
+            buffer.putInt(chromosome.getFitness());
+            chromosome.getGenome().writeTo(buffer);
+        }
+        buffer.putInt(population.getBestSoFar().getFitness());
+        population.getBestSoFar().getGenome().writeTo(buffer);
+        buffer.flip();
+    }
+
+    private void write() throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Loads the checkpoint into population if the file exists. Returns false
+    // when there is nothing to resume from; a file for a different problem or
+    // population shape is rejected.
+    public static boolean resume(Path file, Population population, ProblemContext context) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException(file + " is not a checkpoint");
+            }
+            if (in.getLong() != fingerprint(context) || in.getInt() != context.getNumTasks()
+                    || in.getInt() != context.getNumCores() || in.getInt() != population.size()) {
+                throw new IOException(file + " was written for a different problem or population size");
+            }
+            int generation = in.getInt();
+            int lastImprovement = in.getInt();
+            long evaluations = in.getLong();
+            long elapsedNanos = in.getLong();
+            long seed = in.getLong();
+            for (Chromosome chromosome : population.chromosomes) {
+                load(chromosome, in, file);
+            }
+            load(population.getBestSoFar(), in, file);
+            population.restoreProgress(generation, lastImprovement, evaluations, elapsedNanos);
+            population.applySeed(seed);
+            return true;
+        } catch (RuntimeException e) {
+            throw new IOException(file + " is corrupt", e);
+        }
+    }
+
+    private static void load(Chromosome chromosome, ByteBuffer in, Path file) throws IOException {
+        int fitness = in.getInt();
+        chromosome.getGenome().readFrom(in);
+        chromosome.evaluateFitness();
+        if (chromosome.getFitness() != fitness) {
+            throw new IOException(file + " is corrupt: stored fitness " + fitness
+                    + " does not match genome fitness " + chromosome.getFitness());
+        }
+    }
+
+    private static long fingerprint(ProblemContext context) {
+        long hash = context.getMaxTimeLimit();
+        for (int i = 0; i < context.getNumTasks(); i++) {
+            hash = hash * 0x9E3779B97F4A7C15L + context.getTaskExecutionTime(i);
+        }
+        return hash;
+    }
+
+    private void rethrowFailure() {
+        if (pending != null && pending.isDone()) {
+            try {
+                pending.get();
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                throw new UncheckedIOException("Checkpoint to " + file + " failed",
+                        cause instanceof IOException ? (IOException) cause : new IOException(cause));
+            }
+        }
+    }
+
+    // Waits for the last write, so the file on disk is complete
+    @Override
+    public void close() {
+        try {
+            if (pending != null) {
+                pending.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Reported through rethrowFailure below
+        } finally {
+            writer.shutdown();
+        }
+        rethrowFailure();
+    }
+}
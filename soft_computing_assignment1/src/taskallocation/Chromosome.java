@@ -0,0 +1,205 @@
+package taskallocation;
+
+import java.util.random.RandomGenerator;
+
+public class Chromosome {
+    private final Genome genome;
+    private final ProblemContext context;
+    private final long[] loads;
+    public int fitness;
+
+    public Chromosome(ProblemContext context, RandomGenerator rand) {
+        this.genome = context.newGenome();
+        this.context = context;
+        this.loads = new long[context.getNumCores()];
+        genome.randomize(rand);
+        evaluateFitness();
+    }
+
+    public Chromosome(Genome genome, ProblemContext context) {
+        this.genome = genome;
+        this.context = context;
+        this.loads = new long[context.getNumCores()];
+        evaluateFitness();
+    }
+
+    // Takes ownership of loads, already computed for genome (see LoadKernel)
+    public Chromosome(Genome genome, ProblemContext context, long[] loads) {
+        this.genome = genome;
+        this.context = context;
+        this.loads = loads;
+        updateFitness();
+    }
+
+    // Full O(numTasks) pass; the genetic operators below keep the core loads
+    // up to date incrementally, so this is only needed for fresh genomes.
+    public void evaluateFitness() {
+        LoadKernel.active().computeLoads(genome, context, loads);
+        updateFitness();
+    }
+
+    // Makespan is the largest core load. An assignment with loads over the
+    // limit is infeasible and scores the limit plus its total overflow: always
+    // worse than any feasible assignment, but graded, so selection can still
+    // tell a near miss from a hopeless one. With a single overloaded core the
+    // score is just the makespan.
+    private void updateFitness() {
+        long makespan = 0;
+        long overflow = 0;
+        int limit = context.getMaxTimeLimit();
+        for (long load : loads) {
+            makespan = Math.max(makespan, load);
+            overflow += Math.max(0, load - limit);
+        }
+        this.fitness = overflow == 0 ? (int) makespan : (int) Math.min(Integer.MAX_VALUE, limit + overflow);
+    }
+
+    // Largest core load; the same as the fitness unless infeasible
+    public long getMakespan() {
+        long makespan = 0;
+        for (long load : loads) {
+            makespan = Math.max(makespan, load);
+        }
+        return makespan;
+    }
+
+    // No core exceeds maxTimeLimit
+    public boolean isFeasible() {
+        return fitness <= context.getMaxTimeLimit();
+    }
+
+    // Overwrites this chromosome with genes [0, point) of parent1 and [point, n) of parent2
+    public void onePointCrossover(Chromosome parent1, Chromosome parent2, int point) {
+        onePointCrossover(parent1, parent2, point, null);
+    }
+
+    // Same, but takes the child's loads from cache (if not null) when it has
+    // seen the child's genome, and records them there when it has not
+    public void onePointCrossover(Chromosome parent1, Chromosome parent2, int point, FitnessCache cache) {
+        genome.splice(parent1.genome, parent2.genome, point);
+        if (cache == null) {
+            patchLoads(parent1, parent2, point);
+        } else {
+            long hash = genome.longHash();
+            if (!cache.lookup(hash, loads)) {
+                patchLoads(parent1, parent2, point);
+                cache.record(hash, loads);
+            }
+        }
+        updateFitness();
+    }
+
+    // Start from the parent that contributes the longer segment and patch
+    // in only the genes of the shorter one that actually differ
+    private void patchLoads(Chromosome parent1, Chromosome parent2, int point) {
+        if (point * 2 >= genome.length()) {
+            System.arraycopy(parent1.loads, 0, loads, 0, loads.length);
+            parent1.genome.applyDelta(parent2.genome, point, genome.length(), context, loads);
+        } else {
+            System.arraycopy(parent2.loads, 0, loads, 0, loads.length);
+            parent2.genome.applyDelta(parent1.genome, 0, point, context, loads);
+        }
+    }
+
+    // Moves each task to a different random core with probability
+    // mutationRate. Gaps between mutated genes are drawn from the geometric
+    // distribution, so the cost is proportional to the number of mutations
+    // rather than to numTasks.
+    public void mutate(double mutationRate, RandomGenerator rand) {
+        if (mutationRate <= 0) {
+            return;
+        }
+        int length = genome.length();
+        if (mutationRate >= 1) {
+            for (int i = 0; i < length; i++) {
+                mutateGene(i, rand);
+            }
+        } else {
+            double logKeep = Math.log1p(-mutationRate);
+            long i = (long) (Math.log(1 - rand.nextDouble()) / logKeep);
+            while (i < length) {
+                mutateGene((int) i, rand);
+                i += 1 + (long) (Math.log(1 - rand.nextDouble()) / logKeep);
+            }
+        }
+        updateFitness();
+    }
+
+    // Moves one random task to a different core
+    public void perturb(RandomGenerator rand) {
+        if (genome.length() > 0) {
+            mutateGene(rand.nextInt(genome.length()), rand);
+            updateFitness();
+        }
+    }
+
+    private void mutateGene(int index, RandomGenerator rand) {
+        int from = genome.get(index);
+        int to;
+        if (loads.length == 2) {
+            to = 1 - from;
+        } else {
+            to = rand.nextInt(loads.length - 1);
+            if (to >= from) {
+                to++;
+            }
+        }
+        int time = context.getTaskExecutionTime(index);
+        loads[from] -= time;
+        loads[to] += time;
+        genome.set(index, to);
+    }
+
+    // Reassigns one task, keeping the core loads and fitness up to date
+    public void moveTask(int task, int core) {
+        int time = context.getTaskExecutionTime(task);
+        loads[genome.get(task)] -= time;
+        loads[core] += time;
+        genome.set(task, core);
+        updateFitness();
+    }
+
+    // Exchanges the cores of two tasks, keeping the core loads and fitness up to date
+    public void swapTasks(int task1, int task2) {
+        int core1 = genome.get(task1);
+        int core2 = genome.get(task2);
+        long shift = context.getTaskExecutionTime(task1) - (long) context.getTaskExecutionTime(task2);
+        loads[core1] -= shift;
+        loads[core2] += shift;
+        genome.set(task1, core2);
+        genome.set(task2, core1);
+        updateFitness();
+    }
+
+    public void copyFrom(Chromosome other) {
+        genome.copyFrom(other.genome);
+        System.arraycopy(other.loads, 0, loads, 0, loads.length);
+        fitness = other.fitness;
+    }
+
+    // Copy with its genome on the heap, for results that outlive the run's GenomeArena
+    public Chromosome detach(ProblemContext context) {
+        return new Chromosome(genome.copy(), context, loads.clone());
+    }
+
+    public Genome getGenome() {
+        return genome;
+    }
+
+    // Total execution time assigned to the core with gene value `core`
+    public long getLoad(int core) {
+        return loads[core];
+    }
+
+    public int getFitness() {
+        return fitness;
+    }
+
+    public void printChromosome() {
+        System.out.print("Chromosome: ");
+        for (int i = 0; i < genome.length(); i++) {
+            System.out.print(context.getNumCores() - genome.get(i) + " ");
+        }
+        System.out.println("\nFitness: " + fitness);
+    }
+}
\ No newline at end of file
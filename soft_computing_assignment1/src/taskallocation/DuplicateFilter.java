@@ -0,0 +1,63 @@
+package taskallocation;
+
+import java.util.Arrays;
+
+// Hashes of the genomes of one generation, so a population can spot exact
+// copies of a chromosome it already holds. Open addressing with linear
+// probing at most half full. Every slot is stamped with the generation that
+// filled it, so starting the next generation empties the set without
+// touching the table.
+public class DuplicateFilter {
+    private final long[] keys;
+    private final int[] stamps;
+    private final int mask;
+    // Stamp of the current generation; 0 marks an empty slot
+    private int stamp = 1;
+    private long duplicates;
+
+    // Room for `genomes` genomes per generation
+    public DuplicateFilter(int genomes) {
+        int size = Integer.highestOneBit(Math.max(1, genomes) * 2 - 1) << 1;
+        keys = new long[size];
+        stamps = new int[size];
+        mask = size - 1;
+    }
+
+    // Empties the set for the next generation
+    public void clear() {
+        if (++stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+
+    // Adds hash to the current generation; false if it is already there
+    public boolean add(long hash) {
+        for (int slot = index(hash); ; slot = (slot + 1) & mask) {
+            if (stamps[slot] != stamp) {
+                keys[slot] = hash;
+                stamps[slot] = stamp;
+                return true;
+            }
+            if (keys[slot] == hash) {
+                duplicates++;
+                return false;
+            }
+        }
+    }
+
+    // Finaliser from MurmurHash3, so every key bit reaches the index bits
+    private int index(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    // Genomes add() turned away so far
+    public long getDuplicates() {
+        return duplicates;
+    }
+}
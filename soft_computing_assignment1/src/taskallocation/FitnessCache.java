@@ -0,0 +1,113 @@
+package taskallocation;
+
+// Bounded memo of genome hash -> core loads. A crossover child whose genome
+// the cache has seen takes its loads from here instead of patching them in
+// from its parents, which pays off once the population has converged and
+// keeps breeding the same children.
+//
+// Open addressing in sets of WAYS slots: a hash can only live in the set its
+// index selects, so a lookup probes at most WAYS slots. When a set is full
+// one of its entries is evicted with the clock rule. The set's own hand
+// skips entries referenced since it last passed, clearing their bits, and
+// takes the first one that was not. Two genomes with the same 64-bit hash
+// would share an entry; at these table sizes that is negligible.
+//
+// Not thread-safe; a population keeps one cache per breeding chunk.
+public class FitnessCache {
+    public static final int WAYS = 8;
+
+    private final long[] keys;
+    private final long[] loads;
+    private final boolean[] occupied;
+    private final boolean[] referenced;
+    private final byte[] hands;
+    private final int numCores;
+    private final int setMask;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    // Room for at least `capacity` genomes, rounded up to a power of two
+    public FitnessCache(int capacity, int numCores) {
+        if (capacity < WAYS) {
+            throw new IllegalArgumentException("Cache capacity must be at least " + WAYS + ", got " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.keys = new long[size];
+        this.loads = new long[size * numCores];
+        this.occupied = new boolean[size];
+        this.referenced = new boolean[size];
+        this.hands = new byte[size / WAYS];
+        this.numCores = numCores;
+        this.setMask = size / WAYS - 1;
+    }
+
+    // Copies the cached loads of hash into `into` and returns true, or
+    // returns false when the cache does not hold it
+    public boolean lookup(long hash, long[] into) {
+        int base = set(hash) * WAYS;
+        for (int slot = base; slot < base + WAYS; slot++) {
+            if (occupied[slot] && keys[slot] == hash) {
+                hits++;
+                referenced[slot] = true;
+                System.arraycopy(loads, slot * numCores, into, 0, numCores);
+                return true;
+            }
+        }
+        misses++;
+        return false;
+    }
+
+    // Stores the loads of a genome that lookup() just missed
+    public void record(long hash, long[] coreLoads) {
+        int slot = victim(set(hash));
+        keys[slot] = hash;
+        occupied[slot] = true;
+        referenced[slot] = false;
+        System.arraycopy(coreLoads, 0, loads, slot * numCores, numCores);
+    }
+
+    // First empty slot of the set, else the clock victim
+    private int victim(int set) {
+        int base = set * WAYS;
+        for (int slot = base; slot < base + WAYS; slot++) {
+            if (!occupied[slot]) {
+                return slot;
+            }
+        }
+        evictions++;
+        int hand = hands[set];
+        while (referenced[base + hand]) {
+            referenced[base + hand] = false;
+            hand = (hand + 1) % WAYS;
+        }
+        hands[set] = (byte) ((hand + 1) % WAYS);
+        return base + hand;
+    }
+
+    // Finaliser from MurmurHash3, so every key bit reaches the set index
+    private int set(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash & setMask;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+}
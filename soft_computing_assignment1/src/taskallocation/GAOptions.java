@@ -0,0 +1,318 @@
+package taskallocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// Run-time settings taken from the command line. Shared read-only by every
+// run in a batch, so each run creates its own strategy instances from it.
+public class GAOptions implements Cloneable {
+    public String inputFile = "input.txt";
+    // Run as a resident server on "unix:<path>" or a loopback port instead of
+    // solving inputFile
+    public String serve;
+    // Results go to outputFile (stdout when null) in this format
+    public String outputFile;
+    public String format = "text";
+    public int cores = 2;
+    public int threads = Runtime.getRuntime().availableProcessors();
+    public int parallelism = 1;
+    public Long seed;
+    // "auto" uses the exact two-core solver when it is cheap, else the GA;
+    // "portfolio" races the GA against the heuristics, local search and DP
+    public String solver = "auto";
+    public String selection = "roulette";
+    // GA parameters; a --profile bucket matching a test case's size overrides them
+    public int populationSize = 100;
+    public int maxGenerations = 1000;
+    public double crossoverRate = 0.8;
+    public double mutationRate = 0.05;
+    public TuningProfile profile;
+    // --tune races parameter sets on the input's test cases and writes the
+    // winners to tuneOutput instead of solving. A run meets the target when
+    // its makespan is within tuneTarget of the lower bound; tuneBudget is the
+    // evaluation budget of the last round.
+    public Path tuneOutput;
+    public double tuneTarget = 0.001;
+    public long tuneBudget = 100_000;
+    // Generations an OnlineScheduler runs on each re-plan; API only, as no
+    // command-line mode plans online
+    public int replanGenerations = 20;
+    // Fitness kernel: auto, scalar or vector (needs --add-modules jdk.incubator.vector)
+    public String kernel = "auto";
+    // Keep each run's genomes off the heap in a GenomeArena; with offHeapDir
+    // its pages are memory-mapped files in that directory
+    public boolean offHeap = false;
+    public Path offHeapDir;
+    // Infeasible offspring are only scored with the graded penalty
+    // ("penalty") or also repaired ("repair")
+    public String constraints = "penalty";
+    // Share of the initial population seeded from LPT, greedy and Karmarkar-Karp
+    public double heuristicFraction = 0.1;
+    // Memetic step: how many of the fittest offspring to hill-climb each
+    // generation (0 disables it), and the move budget per hill-climb
+    public int memetic = 0;
+    public int memeticSteps = 64;
+    // Genomes in the per-run fitness cache of crossover children; 0 disables
+    // it. Cache hits still count towards --max-evaluations, which counts
+    // every bred genome; the MBean reports hits and misses.
+    public int fitnessCache = 0;
+    // Re-mutate exact copies of a chromosome within each generation
+    public boolean dedup = false;
+    // Register a JMX MBean with live counters for every running test case
+    public boolean jmx = false;
+    // Periodic checkpoints, one file per test case in this directory. The
+    // interval is also how often populations reseed, checkpointed or not.
+    public Path checkpointDir;
+    public int checkpointInterval = 50;
+    public boolean resume = false;
+    public int islands = 1;
+    public int migrationInterval = 25;
+    public boolean randomTopology = false;
+    // Optional stopping rules; 0 disables them
+    public int stagnationWindow = 0;
+    public long deadlineMillis = 0;
+    public long maxEvaluations = 0;
+    public double targetGap = 0;
+
+    private ForkJoinPool generationPool;
+    private RandomProvider randomProvider;
+
+    public static GAOptions parse(String[] args) {
+        GAOptions options = new GAOptions();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--input":
+                    options.inputFile = value(args, ++i);
+                    break;
+                case "--serve":
+                    options.serve = value(args, ++i);
+                    SolverServer.parseAddress(options.serve);
+                    break;
+                case "--output":
+                    options.outputFile = value(args, ++i);
+                    break;
+                case "--format":
+                    options.format = value(args, ++i);
+                    if (!List.of("text", "csv", "jsonl", "binary").contains(options.format)) {
+                        throw new IllegalArgumentException("Unknown output format: " + options.format);
+                    }
+                    break;
+                case "--cores":
+                    options.cores = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--threads":
+                    options.threads = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--parallelism":
+                    options.parallelism = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(value(args, ++i));
+                    break;
+                case "--solver":
+                    options.solver = value(args, ++i);
+                    if (!List.of("auto", "ga", "exact", "portfolio").contains(options.solver)) {
+                        throw new IllegalArgumentException("Unknown solver: " + options.solver);
+                    }
+                    break;
+                case "--kernel":
+                    options.kernel = value(args, ++i);
+                    LoadKernel.create(options.kernel);
+                    break;
+                case "--off-heap":
+                    options.offHeap = true;
+                    break;
+                case "--off-heap-dir":
+                    options.offHeapDir = Path.of(value(args, ++i));
+                    options.offHeap = true;
+                    break;
+                case "--selection":
+                    options.selection = value(args, ++i);
+                    SelectionStrategy.create(options.selection);
+                    break;
+                case "--constraints":
+                    options.constraints = value(args, ++i);
+                    if (!List.of("repair", "penalty").contains(options.constraints)) {
+                        throw new IllegalArgumentException("Unknown constraint handling: " + options.constraints);
+                    }
+                    break;
+                case "--population":
+                    options.populationSize = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--generations":
+                    options.maxGenerations = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--crossover-rate":
+                    options.crossoverRate = Double.parseDouble(value(args, ++i));
+                    break;
+                case "--mutation-rate":
+                    options.mutationRate = Double.parseDouble(value(args, ++i));
+                    break;
+                case "--profile":
+                    try {
+                        options.profile = TuningProfile.load(Path.of(value(args, ++i)));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    break;
+                case "--tune":
+                    options.tuneOutput = Path.of(value(args, ++i));
+                    break;
+                case "--tune-target":
+                    options.tuneTarget = Double.parseDouble(value(args, ++i));
+                    break;
+                case "--tune-budget":
+                    options.tuneBudget = Long.parseLong(value(args, ++i));
+                    break;
+                case "--heuristic-fraction":
+                    options.heuristicFraction = Double.parseDouble(value(args, ++i));
+                    break;
+                case "--memetic":
+                    options.memetic = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--memetic-steps":
+                    options.memeticSteps = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--fitness-cache":
+                    options.fitnessCache = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--dedup":
+                    options.dedup = true;
+                    break;
+                case "--jmx":
+                    options.jmx = true;
+                    break;
+                case "--checkpoint-dir":
+                    options.checkpointDir = Path.of(value(args, ++i));
+                    break;
+                case "--checkpoint-interval":
+                    options.checkpointInterval = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--resume":
+                    options.resume = true;
+                    break;
+                case "--islands":
+                    options.islands = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--migration-interval":
+                    options.migrationInterval = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--topology":
+                    String topology = value(args, ++i);
+                    if (!topology.equals("ring") && !topology.equals("random")) {
+                        throw new IllegalArgumentException("Unknown topology: " + topology);
+                    }
+                    options.randomTopology = topology.equals("random");
+                    break;
+                case "--stagnation":
+                    options.stagnationWindow = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--deadline-ms":
+                    options.deadlineMillis = Long.parseLong(value(args, ++i));
+                    break;
+                case "--max-evaluations":
+                    options.maxEvaluations = Long.parseLong(value(args, ++i));
+                    break;
+                case "--target-gap":
+                    options.targetGap = Double.parseDouble(value(args, ++i));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (options.cores < 2 || options.cores > ByteGenome.MAX_CORES) {
+            throw new IllegalArgumentException("--cores must be between 2 and " + ByteGenome.MAX_CORES
+                    + ", got " + options.cores);
+        }
+        atLeast("--threads", options.threads, 1);
+        atLeast("--parallelism", options.parallelism, 1);
+        atLeast("--islands", options.islands, 1);
+        atLeast("--migration-interval", options.migrationInterval, 1);
+        atLeast("--memetic", options.memetic, 0);
+        atLeast("--memetic-steps", options.memeticSteps, 1);
+        atLeast("--fitness-cache", options.fitnessCache, 0);
+        atLeast("--checkpoint-interval", options.checkpointInterval, 1);
+        atLeast("--stagnation", options.stagnationWindow, 0);
+        atLeast("--deadline-ms", options.deadlineMillis, 0);
+        atLeast("--max-evaluations", options.maxEvaluations, 0);
+        atLeast("--tune-budget", options.tuneBudget, 1);
+        if (!(options.heuristicFraction >= 0 && options.heuristicFraction <= 1)) {
+            throw new IllegalArgumentException("--heuristic-fraction must be between 0 and 1, got "
+                    + options.heuristicFraction);
+        }
+        if (!(options.targetGap >= 0) || !(options.tuneTarget >= 0)) {
+            throw new IllegalArgumentException("--target-gap and --tune-target must be 0 or more, got "
+                    + options.targetGap + " and " + options.tuneTarget);
+        }
+        if (options.solver.equals("exact") && options.cores != 2) {
+            throw new IllegalArgumentException("--solver exact needs --cores 2, got " + options.cores);
+        }
+        if (options.checkpointDir != null && options.islands > 1) {
+            throw new IllegalArgumentException("Checkpoints are not supported with --islands");
+        }
+        // Concurrent server jobs reuse test case numbers, so their files would collide
+        if (options.checkpointDir != null && options.serve != null) {
+            throw new IllegalArgumentException("Checkpoints are not supported with --serve");
+        }
+        if (options.resume && options.checkpointDir == null) {
+            throw new IllegalArgumentException("--resume needs --checkpoint-dir");
+        }
+        options.defaultParameters();
+        return options;
+    }
+
+    // Command-line parameters, validated
+    public GAParameters defaultParameters() {
+        return new GAParameters(populationSize, maxGenerations, crossoverRate, mutationRate);
+    }
+
+    public GAParameters parametersFor(TestCase testCase) {
+        GAParameters tuned = profile != null ? profile.lookup(testCase.numTasks) : null;
+        return tuned != null ? tuned : defaultParameters();
+    }
+
+    // Shallow copy that shares the random provider and generation pool, so
+    // runs made with the copy draw the same streams as the original
+    public GAOptions copy() {
+        randomProvider();
+        generationPool();
+        try {
+            return (GAOptions) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    // One provider per batch, so --seed fixes the streams of every test case
+    public synchronized RandomProvider randomProvider() {
+        if (randomProvider == null) {
+            randomProvider = seed != null ? new RandomProvider(seed) : RandomProvider.unseeded();
+        }
+        return randomProvider;
+    }
+
+    // Pool shared by all runs for intra-generation work, or null when each
+    // generation should run on the calling thread
+    public synchronized ForkJoinPool generationPool() {
+        if (parallelism > 1 && generationPool == null) {
+            generationPool = new ForkJoinPool(parallelism);
+        }
+        return generationPool;
+    }
+
+    private static void atLeast(String option, long value, long min) {
+        if (value < min) {
+            throw new IllegalArgumentException(option + " must be at least " + min + ", got " + value);
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+}
@@ -0,0 +1,74 @@
+package taskallocation;
+
+import java.util.Objects;
+
+// The GA settings that are worth tuning per problem size. A run takes them
+// from the command line, or from a TuningProfile bucket when one matches.
+public final class GAParameters {
+    private final int populationSize;
+    private final int maxGenerations;
+    private final double crossoverRate;
+    private final double mutationRate;
+
+    public GAParameters(int populationSize, int maxGenerations, double crossoverRate, double mutationRate) {
+        // One slot always holds the elite, so anything smaller never breeds
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2: " + populationSize);
+        }
+        if (maxGenerations < 0) {
+            throw new IllegalArgumentException("Max generations must not be negative: " + maxGenerations);
+        }
+        if (!(crossoverRate >= 0 && crossoverRate <= 1)) {
+            throw new IllegalArgumentException("Crossover rate must be between 0 and 1: " + crossoverRate);
+        }
+        if (!(mutationRate >= 0 && mutationRate <= 1)) {
+            throw new IllegalArgumentException("Mutation rate must be between 0 and 1: " + mutationRate);
+        }
+        this.populationSize = populationSize;
+        this.maxGenerations = maxGenerations;
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    public GAParameters withMaxGenerations(int generations) {
+        return new GAParameters(populationSize, generations, crossoverRate, mutationRate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GAParameters)) {
+            return false;
+        }
+        GAParameters that = (GAParameters) other;
+        return populationSize == that.populationSize && maxGenerations == that.maxGenerations
+                && Double.compare(crossoverRate, that.crossoverRate) == 0
+                && Double.compare(mutationRate, that.mutationRate) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(populationSize, maxGenerations, crossoverRate, mutationRate);
+    }
+
+    @Override
+    public String toString() {
+        return "population " + populationSize + ", generations " + maxGenerations
+                + ", crossover " + crossoverRate + ", mutation " + mutationRate;
+    }
+}
@@ -0,0 +1,47 @@
+package taskallocation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One GA generation, recorded by JDK Flight Recorder when a recording
+// enables it, e.g. java -XX:StartFlightRecording=filename=ga.jfr ...
+// Fitness statistics cover feasible chromosomes only.
+@Name("taskallocation.Generation")
+@Label("GA Generation")
+@Category({"Task Allocation", "GA"})
+@StackTrace(false)
+public class GenerationEvent extends Event {
+    @Label("Test Case")
+    int testCase;
+
+    @Label("Island")
+    int island;
+
+    @Label("Generation")
+    int generation;
+
+    @Label("Best Fitness")
+    int bestFitness;
+
+    @Label("Mean Fitness")
+    double meanFitness;
+
+    @Label("Worst Fitness")
+    int worstFitness;
+
+    @Label("Infeasible Share")
+    double infeasibleShare;
+
+    @Label("Evaluations Per Second")
+    double evaluationsPerSecond;
+
+    @Label("Bytes Allocated")
+    @Description("Allocated by the thread running the generation; generation pool workers are not included")
+    @DataAmount
+    long bytesAllocated;
+}
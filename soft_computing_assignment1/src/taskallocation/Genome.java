@@ -0,0 +1,46 @@
+package taskallocation;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+// Task-to-core assignment of a chromosome. Gene i holds the index of the core
+// task i runs on, in [0, numCores()). With two cores gene 1 is core 1 and
+// gene 0 is core 2, matching the original binary encoding.
+public interface Genome {
+    int length();
+
+    int numCores();
+
+    int get(int index);
+
+    void set(int index, int value);
+
+    void randomize(RandomGenerator rand);
+
+    void copyFrom(Genome other);
+
+    // Genes [0, point) come from head and genes [point, length) from tail
+    void splice(Genome head, Genome tail, int point);
+
+    // Overwrites loads with the total execution time assigned to each core
+    void computeLoads(ProblemContext context, long[] loads);
+
+    // Adjusts loads as if genes [from, to) were replaced by those of other
+    void applyDelta(Genome other, int from, int to, ProblemContext context, long[] loads);
+
+    // Fixed-size binary form used by checkpoints
+    int encodedSize();
+
+    void writeTo(ByteBuffer buffer);
+
+    void readFrom(ByteBuffer buffer);
+
+    // 64-bit content hash, used to spot duplicate genomes
+    long longHash();
+
+    Genome copy();
+
+    // Copy with a different length: genes past the old length are 0 and
+    // genes past the new one are dropped
+    Genome resized(int length);
+}
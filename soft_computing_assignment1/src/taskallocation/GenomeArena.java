@@ -0,0 +1,173 @@
+package taskallocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Off-heap storage for the genomes of one GA run, so that instances with
+// millions of tasks and large populations don't fill the heap with genome
+// arrays the collector has to trace and copy. A ProblemContext built with an
+// arena hands out genomes from it; the chromosomes themselves stay on the heap
+// and only hold their numCores loads.
+//
+// Genomes are fixed-size slots laid back to back in large pages, each slot
+// padded to a cache line. Slots have the same bit or byte layout as BitGenome
+// and ByteGenome, and the load kernels and crossover work on them in place.
+// Nothing is freed slot by slot: the whole arena goes when the run ends.
+//
+// Pages come from the foreign memory API (MemorySegment in a shared
+// ResourceScope, released as soon as the arena is closed) when the JVM runs
+// with --add-modules jdk.incubator.foreign, and from direct ByteBuffers
+// otherwise, which are released once the collector finds them unreachable.
+// Either way they count against -XX:MaxDirectMemorySize, which defaults to
+// the maximum heap size. With a directory, pages are instead memory-mapped
+// temporary files there, which don't count against it and which the
+// operating system can page out to disk. ForeignPageAllocator lives in the
+// incubator/ source root and is only loaded by name, so src/ compiles
+// without the incubator modules.
+public final class GenomeArena implements AutoCloseable {
+    private static final String FOREIGN_MODULE = "jdk.incubator.foreign";
+    private static final String FOREIGN_ALLOCATOR = "taskallocation.ForeignPageAllocator";
+    static final int SLOT_ALIGNMENT = 64;
+    private static final long MAX_PAGE_BYTES = 1L << 30;
+    // Slots of each page after the first, as a fraction of those handed out so far
+    private static final int GROWTH_DIVISOR = 4;
+    private static final int MIN_GROWTH_SLOTS = 8;
+
+    // Source of zero-filled, native-order pages
+    interface PageAllocator {
+        ByteBuffer allocate(int bytes) throws IOException;
+
+        void close();
+    }
+
+    private final int numTasks;
+    private final int numCores;
+    private final int slotBytes;
+    private final int maxPageSlots;
+    private final PageAllocator allocator;
+    private ByteBuffer page;
+    private int pageSlots;
+    private int usedSlots;
+    private long allocatedSlots;
+    private long reservedBytes;
+    private boolean closed;
+
+    // expectedSlots sizes the first page; directory is null for anonymous memory
+    public GenomeArena(int numTasks, int numCores, int expectedSlots, Path directory) {
+        if (numCores < 2 || numCores > ByteGenome.MAX_CORES) {
+            throw new IllegalArgumentException("Number of cores must be between 2 and " + ByteGenome.MAX_CORES + ": " + numCores);
+        }
+        long genomeBytes = numCores == 2 ? ((numTasks + 63L) >>> 6) * Long.BYTES : numTasks;
+        long padded = Math.max(SLOT_ALIGNMENT, (genomeBytes + SLOT_ALIGNMENT - 1) & -SLOT_ALIGNMENT);
+        if (padded > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Genomes of " + numTasks + " tasks are too large for off-heap storage");
+        }
+        this.numTasks = numTasks;
+        this.numCores = numCores;
+        this.slotBytes = (int) padded;
+        this.maxPageSlots = (int) Math.max(1, MAX_PAGE_BYTES / slotBytes);
+        this.pageSlots = Math.max(1, Math.min(maxPageSlots, expectedSlots));
+        this.allocator = newAllocator(directory);
+    }
+
+    private static PageAllocator newAllocator(Path directory) {
+        if (!ModuleLayer.boot().findModule(FOREIGN_MODULE).isPresent()
+                || GenomeArena.class.getResource("ForeignPageAllocator.class") == null) {
+            return new BufferPageAllocator(directory);
+        }
+        try {
+            return (PageAllocator) Class.forName(FOREIGN_ALLOCATOR).getDeclaredConstructor(Path.class)
+                    .newInstance(directory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot load " + FOREIGN_ALLOCATOR, e);
+        }
+    }
+
+    // Name of the page source, for diagnostics
+    String allocatorName() {
+        return allocator.getClass().getSimpleName();
+    }
+
+    public int getNumTasks() {
+        return numTasks;
+    }
+
+    public int getNumCores() {
+        return numCores;
+    }
+
+    // A new genome with every gene 0
+    public synchronized Genome allocate() {
+        if (closed) {
+            throw new IllegalStateException("Genome arena is closed");
+        }
+        if (page == null || usedSlots == pageSlots) {
+            if (page != null) {
+                pageSlots = (int) Math.min(maxPageSlots, Math.max(MIN_GROWTH_SLOTS, allocatedSlots / GROWTH_DIVISOR));
+            }
+            try {
+                page = allocator.allocate(pageSlots * slotBytes).order(ByteOrder.nativeOrder());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            reservedBytes += (long) pageSlots * slotBytes;
+            usedSlots = 0;
+        }
+        int offset = usedSlots++ * slotBytes;
+        allocatedSlots++;
+        return numCores == 2 ? new OffHeapBitGenome(page, offset, numTasks)
+                : new OffHeapByteGenome(page, offset, numTasks, numCores);
+    }
+
+    // Off-heap bytes taken by the pages so far
+    public synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    public synchronized long getAllocatedGenomes() {
+        return allocatedSlots;
+    }
+
+    // Genomes of a closed arena must no longer be used; with the foreign
+    // memory API any access to them fails instead of reading freed memory
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            page = null;
+            allocator.close();
+        }
+    }
+
+    // Direct buffers, or files mapped with FileChannel, without the foreign memory API
+    private static final class BufferPageAllocator implements PageAllocator {
+        private final Path directory;
+
+        BufferPageAllocator(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public ByteBuffer allocate(int bytes) throws IOException {
+            if (directory == null) {
+                return ByteBuffer.allocateDirect(bytes);
+            }
+            Path file = Files.createTempFile(directory, "genomes-", ".bin");
+            // The mapping outlives the channel and, on POSIX systems, the file's name
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
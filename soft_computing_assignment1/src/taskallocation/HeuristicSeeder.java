@@ -0,0 +1,218 @@
+package taskallocation;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+// Fills the first slots of a fresh population with constructive schedules:
+// Longest-Processing-Time-first, greedy list scheduling in input order and
+// the Karmarkar-Karp differencing method, followed by randomly perturbed
+// copies of them. The remaining slots keep their random genomes for diversity.
+public final class HeuristicSeeder {
+    // Tasks moved to a random other core in each perturbed copy
+    private static final int PERTURBATION_MOVES = 2;
+
+    private HeuristicSeeder() {
+    }
+
+    public static void seed(Population population, ProblemContext context, double fraction, RandomGenerator rand) {
+        int slots = (int) Math.min(population.size(), Math.ceil(population.size() * fraction));
+        // Without tasks every schedule is the same empty one
+        if (slots <= 0 || context.getNumTasks() == 0) {
+            return;
+        }
+        Genome[] heuristics = {longestProcessingTimeFirst(context), greedy(context), karmarkarKarp(context)};
+
+        Genome perturbed = context.newGenome();
+        for (int slot = 0; slot < slots; slot++) {
+            Genome base = heuristics[slot % heuristics.length];
+            if (slot < heuristics.length) {
+                population.inject(slot, base);
+            } else {
+                perturbed.copyFrom(base);
+                perturb(perturbed, context, rand);
+                population.inject(slot, perturbed);
+            }
+        }
+    }
+
+    private static void perturb(Genome genome, ProblemContext context, RandomGenerator rand) {
+        if (genome.length() == 0) {
+            return;
+        }
+        int numCores = context.getNumCores();
+        for (int m = 0; m < PERTURBATION_MOVES; m++) {
+            int task = rand.nextInt(genome.length());
+            int core = rand.nextInt(numCores - 1);
+            genome.set(task, core >= genome.get(task) ? core + 1 : core);
+        }
+    }
+
+    // Longest tasks first, each to the currently least loaded core
+    public static Genome longestProcessingTimeFirst(ProblemContext context) {
+        int n = context.getNumTasks();
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = ((long) context.getTaskExecutionTime(i) << 32) | i;
+        }
+        Arrays.sort(order);
+        Genome genome = context.newGenome();
+        CoreHeap cores = new CoreHeap(context.getNumCores());
+        for (int k = n - 1; k >= 0; k--) {
+            int task = (int) order[k];
+            genome.set(task, cores.assign(context.getTaskExecutionTime(task)));
+        }
+        return genome;
+    }
+
+    // Tasks in input order, each to the currently least loaded core
+    public static Genome greedy(ProblemContext context) {
+        Genome genome = context.newGenome();
+        CoreHeap cores = new CoreHeap(context.getNumCores());
+        for (int task = 0; task < context.getNumTasks(); task++) {
+            genome.set(task, cores.assign(context.getTaskExecutionTime(task)));
+        }
+        return genome;
+    }
+
+    // Multi-way Karmarkar-Karp: start with one partial partition per task and
+    // repeatedly merge the two partitions with the largest spread (max - min
+    // bin sum), pairing the heaviest bins of one with the lightest of the
+    // other. Bins hold linked lists of tasks so a merge never copies tasks.
+    // A partition only stores its non-empty bins; the rest are implicitly empty.
+    public static Genome karmarkarKarp(ProblemContext context) {
+        int n = context.getNumTasks();
+        int numCores = context.getNumCores();
+        int[] nextTask = new int[n];
+        PriorityQueue<Partition> queue = new PriorityQueue<>(Math.max(1, n),
+                (a, b) -> Long.compare(b.spread, a.spread));
+        for (int task = 0; task < n; task++) {
+            nextTask[task] = -1;
+            queue.add(new Partition(new long[] {context.getTaskExecutionTime(task)}, new int[] {task}, new int[] {task}, numCores));
+        }
+
+        while (queue.size() > 1) {
+            queue.add(merge(queue.poll(), queue.poll(), numCores, nextTask));
+        }
+
+        Genome genome = context.newGenome();
+        Partition result = queue.poll();
+        if (result != null) {
+            for (int bin = 0; bin < result.sums.length; bin++) {
+                for (int task = result.heads[bin]; task != -1; task = nextTask[task]) {
+                    genome.set(task, bin);
+                }
+            }
+        }
+        return genome;
+    }
+
+    private static Partition merge(Partition a, Partition b, int numCores, int[] nextTask) {
+        int[] heavyFirst = a.binsBySum();
+        int[] lightFirst = b.binsBySum();
+        // a's bins descending against b's bins ascending; b's stored bins sit
+        // after its implicit empty ones, at positions numCores - b.size()...
+        int offset = numCores - b.sums.length;
+        int size = a.sums.length + b.sums.length - Math.max(0, a.sums.length - offset);
+        long[] sums = new long[size];
+        int[] heads = new int[size];
+        int[] tails = new int[size];
+        int bin = 0;
+        for (int position = 0; position < numCores; position++) {
+            int fromA = position < a.sums.length ? heavyFirst[a.sums.length - 1 - position] : -1;
+            int fromB = position >= offset ? lightFirst[position - offset] : -1;
+            if (fromA < 0 && fromB < 0) {
+                continue;
+            }
+            if (fromA >= 0 && fromB >= 0) {
+                sums[bin] = a.sums[fromA] + b.sums[fromB];
+                heads[bin] = a.heads[fromA];
+                nextTask[a.tails[fromA]] = b.heads[fromB];
+                tails[bin] = b.tails[fromB];
+            } else {
+                Partition source = fromA >= 0 ? a : b;
+                int from = fromA >= 0 ? fromA : fromB;
+                sums[bin] = source.sums[from];
+                heads[bin] = source.heads[from];
+                tails[bin] = source.tails[from];
+            }
+            bin++;
+        }
+        return new Partition(sums, heads, tails, numCores);
+    }
+
+    private static final class Partition {
+        final long[] sums;
+        final int[] heads;
+        final int[] tails;
+        final long spread;
+
+        Partition(long[] sums, int[] heads, int[] tails, int numCores) {
+            this.sums = sums;
+            this.heads = heads;
+            this.tails = tails;
+            long max = 0;
+            long min = Long.MAX_VALUE;
+            for (long sum : sums) {
+                max = Math.max(max, sum);
+                min = Math.min(min, sum);
+            }
+            // Implicit empty bins make the minimum zero
+            this.spread = sums.length < numCores ? max : max - min;
+        }
+
+        // Stored bin indices in ascending order of their sums
+        int[] binsBySum() {
+            long[] keys = new long[sums.length];
+            for (int i = 0; i < sums.length; i++) {
+                keys[i] = (sums[i] << 8) | i;
+            }
+            Arrays.sort(keys);
+            int[] bins = new int[sums.length];
+            for (int i = 0; i < sums.length; i++) {
+                bins[i] = (int) (keys[i] & 0xFF);
+            }
+            return bins;
+        }
+    }
+
+    // Binary min-heap of cores keyed by their current load
+    private static final class CoreHeap {
+        private final int[] heap;
+        private final long[] loads;
+
+        CoreHeap(int numCores) {
+            heap = new int[numCores];
+            loads = new long[numCores];
+            for (int core = 0; core < numCores; core++) {
+                heap[core] = core;
+            }
+        }
+
+        // Adds time to the least loaded core and returns that core
+        int assign(int time) {
+            int core = heap[0];
+            loads[core] += time;
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heap.length) {
+                    break;
+                }
+                if (child + 1 < heap.length && less(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!less(heap[child], core)) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = core;
+            return core;
+        }
+
+        private boolean less(int a, int b) {
+            return loads[a] < loads[b] || (loads[a] == loads[b] && a < b);
+        }
+    }
+}
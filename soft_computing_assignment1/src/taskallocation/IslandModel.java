@@ -0,0 +1,236 @@
+package taskallocation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Evolves several independent populations on their own threads. Every
+// `migrationInterval` generations each island publishes a copy of its best
+// chromosome and replaces its worst member with a migrant from a neighbour
+// (the next island in a ring, or a random other island).
+//
+// Migrants go through preallocated slots, double-buffered by epoch parity,
+// and there is no lock or global barrier. Each island advances its own
+// published and consumed epoch counters. It waits only for its source to
+// publish the epoch it is reading, and before reusing a slot it waits for
+// the islands that read it two epochs earlier. A ring island therefore
+// depends only on its two neighbours. The waits are what make a seeded run
+// reproducible: taking whatever the source last published would make
+// migrants, and so results, depend on thread timing.
+public class IslandModel {
+    private static final int RUNNING = Integer.MAX_VALUE;
+
+    private final Population[] islands;
+    private final int migrationInterval;
+    private final boolean randomTopology;
+    private final SplittableRandom[] islandRandoms;
+    private final Chromosome[][] migrants;
+    private final String[] stopReasons;
+    // Last epoch each island has published a migrant for, and last epoch it
+    // has taken one in; -1 before the first migration
+    private final AtomicIntegerArray published;
+    private final AtomicIntegerArray consumed;
+    // Epoch at which each island stopped, RUNNING until then. Set only after
+    // the island's last publish, so once it is seen the published epoch is final.
+    private final AtomicIntegerArray stopEpochs;
+    private final Thread[] threads;
+    private volatile boolean aborted;
+
+    public IslandModel(Population[] islands, ProblemContext context, int migrationInterval,
+                       boolean randomTopology, SplittableRandom rand) {
+        if (islands.length < 2) {
+            throw new IllegalArgumentException("Island model needs at least two islands");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be positive: " + migrationInterval);
+        }
+        this.islands = islands;
+        this.migrationInterval = migrationInterval;
+        this.randomTopology = randomTopology;
+        this.islandRandoms = new SplittableRandom[islands.length];
+        this.migrants = new Chromosome[2][islands.length];
+        this.stopReasons = new String[islands.length];
+        this.published = new AtomicIntegerArray(islands.length);
+        this.consumed = new AtomicIntegerArray(islands.length);
+        this.stopEpochs = new AtomicIntegerArray(islands.length);
+        this.threads = new Thread[islands.length];
+        for (int i = 0; i < islands.length; i++) {
+            published.set(i, -1);
+            consumed.set(i, -1);
+            stopEpochs.set(i, RUNNING);
+            islandRandoms[i] = rand.split();
+            migrants[0][i] = new Chromosome(context.newGenome(), context);
+            migrants[1][i] = new Chromosome(context.newGenome(), context);
+        }
+    }
+
+    public Chromosome run(TerminationPolicy termination, SolverTelemetry telemetry) {
+        RuntimeException[] failures = new RuntimeException[islands.length];
+
+        for (int i = 0; i < islands.length; i++) {
+            int island = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    evolveIsland(island, termination, telemetry);
+                } catch (RuntimeException e) {
+                    failures[island] = e;
+                    abort();
+                }
+            }, "ga-island-" + i);
+        }
+        // Started only once every thread exists, so wake-ups never miss one
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                abort();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for islands", e);
+            }
+        }
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        Chromosome best = islands[0].getBestSoFar();
+        for (Population island : islands) {
+            if (island.getBestSoFar().getFitness() < best.getFitness()) {
+                best = island.getBestSoFar();
+            }
+        }
+        return best;
+    }
+
+    // An island stops when its own rule fires, or when the island it reads
+    // from stopped without publishing the epoch it needs. In that case it
+    // takes over that island's reason. Both depend only on what each island
+    // computed, never on timing.
+    private void evolveIsland(int island, TerminationPolicy termination, SolverTelemetry telemetry) {
+        Population population = islands[island];
+        int epoch = 0;
+        String reason;
+        while ((reason = termination.check(population)) == null) {
+            if (aborted) {
+                return;
+            }
+            telemetry.evolve(population, island);
+            if (population.getGeneration() % migrationInterval == 0) {
+                Chromosome[] slots = migrants[epoch & 1];
+                if (epoch >= 2 && !awaitReaders(island, epoch - 2)) {
+                    return;
+                }
+                slots[island].copyFrom(population.getBestSoFar());
+                published.set(island, epoch);
+                wakeAll();
+
+                int source = source(island);
+                int sourceState = awaitPublished(source, epoch);
+                if (sourceState < 0) {
+                    return;
+                }
+                if (sourceState == 0) {
+                    reason = stopReasons[source];
+                    break;
+                }
+                population.immigrate(slots[source]);
+                consumed.set(island, epoch);
+                wakeAll();
+                epoch++;
+            }
+        }
+        stopReasons[island] = reason;
+        stopEpochs.set(island, epoch);
+        wakeAll();
+    }
+
+    // 1 once source has published epoch, 0 if it stopped before doing so,
+    // -1 if the run was aborted
+    private int awaitPublished(int source, int epoch) {
+        while (!aborted) {
+            // Read the stop first: after it is set, published can no longer change
+            boolean stopped = stopEpochs.get(source) != RUNNING;
+            if (published.get(source) >= epoch) {
+                return 1;
+            }
+            if (stopped) {
+                return 0;
+            }
+            LockSupport.park(this);
+        }
+        return -1;
+    }
+
+    // Waits until every island that may have read this island's slot for
+    // epoch has moved past it or stopped; false if the run was aborted
+    private boolean awaitReaders(int island, int epoch) {
+        for (int reader = 0; reader < islands.length; reader++) {
+            if (reader == island || (!randomTopology && (reader + 1) % islands.length != island)) {
+                continue;
+            }
+            while (consumed.get(reader) < epoch && stopEpochs.get(reader) == RUNNING) {
+                if (aborted) {
+                    return false;
+                }
+                LockSupport.park(this);
+            }
+        }
+        return true;
+    }
+
+    private void wakeAll() {
+        for (Thread thread : threads) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void abort() {
+        aborted = true;
+        wakeAll();
+    }
+
+    // Rule that stopped the lowest-numbered island
+    public String getStopReason() {
+        for (String reason : stopReasons) {
+            if (reason != null) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    public int getGenerations() {
+        int generations = 0;
+        for (Population island : islands) {
+            generations = Math.max(generations, island.getGeneration());
+        }
+        return generations;
+    }
+
+    // Generation in which the best chromosome of any island was found
+    public int getLastImprovement() {
+        Population best = islands[0];
+        for (Population island : islands) {
+            int fitness = island.getBestSoFar().getFitness();
+            if (fitness < best.getBestSoFar().getFitness()
+                    || (fitness == best.getBestSoFar().getFitness()
+                    && island.getLastImprovement() < best.getLastImprovement())) {
+                best = island;
+            }
+        }
+        return best.getLastImprovement();
+    }
+
+    private int source(int island) {
+        if (!randomTopology) {
+            return (island + 1) % islands.length;
+        }
+        int other = islandRandoms[island].nextInt(islands.length - 1);
+        return other >= island ? other + 1 : other;
+    }
+}
@@ -0,0 +1,101 @@
+package taskallocation;
+
+import java.util.Arrays;
+
+// Computes the core loads of whole genomes from scratch, for fresh genomes,
+// the initial population and resumed checkpoints (the genetic operators
+// keep loads up to date incrementally instead). Kernels sum the times of
+// genes 1..numCores-1 and derive gene 0's load from the total.
+//
+// The batched form walks the task times in cache-sized blocks and scores
+// every genome of the batch against a block while it is still in cache.
+//
+// The active kernel is picked once at startup: the SIMD kernel when the JVM
+// runs with --add-modules jdk.incubator.vector, the scalar one otherwise.
+// VectorLoadKernel lives in the incubator/ source root and is only loaded
+// by name, so src/ compiles without the incubator modules.
+public abstract class LoadKernel {
+    // Tasks per block in batched mode; a multiple of 64 so blocks split
+    // BitGenome words cleanly
+    private static final int BLOCK_TASKS = 4096;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "taskallocation.VectorLoadKernel";
+
+    private static volatile LoadKernel active = create("auto");
+
+    public static LoadKernel active() {
+        return active;
+    }
+
+    public static void use(String name) {
+        active = create(name);
+    }
+
+    // "scalar", "vector", or "auto" for the vector kernel when available
+    public static LoadKernel create(String name) {
+        switch (name) {
+            case "scalar":
+                return new ScalarLoadKernel();
+            case "vector":
+                if (!vectorAvailable()) {
+                    throw new IllegalArgumentException("The vector kernel needs --add-modules " + VECTOR_MODULE
+                            + " and a build that includes incubator/");
+                }
+                return vectorKernel();
+            case "auto":
+                return vectorAvailable() ? vectorKernel() : new ScalarLoadKernel();
+            default:
+                throw new IllegalArgumentException("Unknown kernel: " + name);
+        }
+    }
+
+    private static boolean vectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()
+                && LoadKernel.class.getResource("VectorLoadKernel.class") != null;
+    }
+
+    private static LoadKernel vectorKernel() {
+        try {
+            return (LoadKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot load " + VECTOR_KERNEL, e);
+        }
+    }
+
+    public abstract String name();
+
+    // Adds the time of every task in [from, to) to loads[gene] for its gene,
+    // at least for genes 1..numCores-1. from is a multiple of 64.
+    protected abstract void accumulate(Genome genome, ProblemContext context, int from, int to, long[] loads);
+
+    public void computeLoads(Genome genome, ProblemContext context, long[] loads) {
+        Arrays.fill(loads, 0);
+        accumulate(genome, context, 0, genome.length(), loads);
+        deriveGeneZero(context, loads);
+    }
+
+    // loads[i] receives the loads of genomes[i], for i < count
+    public void computeLoads(Genome[] genomes, int count, ProblemContext context, long[][] loads) {
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(loads[i], 0);
+        }
+        int numTasks = context.getNumTasks();
+        for (int from = 0; from < numTasks; from += BLOCK_TASKS) {
+            int to = Math.min(numTasks, from + BLOCK_TASKS);
+            for (int i = 0; i < count; i++) {
+                accumulate(genomes[i], context, from, to, loads[i]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            deriveGeneZero(context, loads[i]);
+        }
+    }
+
+    private static void deriveGeneZero(ProblemContext context, long[] loads) {
+        long rest = 0;
+        for (int gene = 1; gene < loads.length; gene++) {
+            rest += loads[gene];
+        }
+        loads[0] = context.getTotalTime() - rest;
+    }
+}
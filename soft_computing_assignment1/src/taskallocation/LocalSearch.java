@@ -0,0 +1,93 @@
+package taskallocation;
+
+import java.util.random.RandomGenerator;
+
+// Bounded hill-climb used as the memetic step of the GA. Each step takes the
+// most loaded core c and the least loaded core b and looks for either
+//   - a move of one task from c to b, or
+//   - a swap of a task on c with a lighter task on b
+// that shifts d units of work with 0 < d < load(c) - load(b). Such a change
+// strictly lowers load(c)^2 + load(b)^2 without raising the makespan, so the
+// climb always terminates. Every candidate is scored in O(1) from the cached
+// core loads; the genome is only touched when a change is applied.
+public class LocalSearch {
+    private final int maxSteps;
+    private final int maxCandidates;
+
+    public LocalSearch(int maxSteps, int maxCandidates) {
+        this.maxSteps = maxSteps;
+        this.maxCandidates = maxCandidates;
+    }
+
+    // Returns the number of moves and swaps applied
+    public int improve(Chromosome chromosome, ProblemContext context, RandomGenerator rand) {
+        Genome genome = chromosome.getGenome();
+        int n = genome.length();
+        int numCores = context.getNumCores();
+        if (n < 2) {
+            return 0;
+        }
+
+        int applied = 0;
+        for (int step = 0; step < maxSteps; step++) {
+            int heaviest = 0;
+            int lightest = 0;
+            for (int core = 1; core < numCores; core++) {
+                if (chromosome.getLoad(core) > chromosome.getLoad(heaviest)) {
+                    heaviest = core;
+                }
+                if (chromosome.getLoad(core) < chromosome.getLoad(lightest)) {
+                    lightest = core;
+                }
+            }
+            long gap = chromosome.getLoad(heaviest) - chromosome.getLoad(lightest);
+            if (gap <= 1) {
+                break;
+            }
+            if (!improveStep(chromosome, context, heaviest, lightest, gap, rand)) {
+                break;
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    // Scans up to maxCandidates tasks from a random start. Tasks on the heavy
+    // core are tried as moves, and as swaps with the last task seen on the
+    // light core (and vice versa).
+    private boolean improveStep(Chromosome chromosome, ProblemContext context, int heavy, int light, long gap,
+                                RandomGenerator rand) {
+        Genome genome = chromosome.getGenome();
+        int n = genome.length();
+        int task = rand.nextInt(n);
+        int lastOnHeavy = -1;
+        int lastOnLight = -1;
+
+        for (int k = 0; k < Math.min(n, maxCandidates); k++, task = task + 1 == n ? 0 : task + 1) {
+            int gene = genome.get(task);
+            int time = context.getTaskExecutionTime(task);
+            if (gene == heavy) {
+                if (time > 0 && time < gap) {
+                    chromosome.moveTask(task, light);
+                    return true;
+                }
+                if (lastOnLight >= 0 && shiftsUsefully(time - context.getTaskExecutionTime(lastOnLight), gap)) {
+                    chromosome.swapTasks(task, lastOnLight);
+                    return true;
+                }
+                lastOnHeavy = task;
+            } else if (gene == light) {
+                if (lastOnHeavy >= 0 && shiftsUsefully(context.getTaskExecutionTime(lastOnHeavy) - time, gap)) {
+                    chromosome.swapTasks(lastOnHeavy, task);
+                    return true;
+                }
+                lastOnLight = task;
+            }
+        }
+        return false;
+    }
+
+    private static boolean shiftsUsefully(long shift, long gap) {
+        return shift > 0 && shift < gap;
+    }
+}
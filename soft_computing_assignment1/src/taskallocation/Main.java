@@ -0,0 +1,493 @@
+package taskallocation;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+
+
+class TestCase {
+    public int numTasks;
+    public int maxTimeLimit;
+    public int[] taskTimes;
+    // Position in the input file, 0-based
+    public int index;
+
+    public TestCase(int numTasks, int maxTimeLimit, int[] taskTimes) {
+        this.numTasks = numTasks;
+        this.maxTimeLimit = maxTimeLimit;
+        this.taskTimes = taskTimes;
+    }
+}
+
+class GAResult {
+    private Chromosome bestChromosome;
+    private TestCase testCase;
+    private String stopReason;
+    private int generations;
+    private int lastImprovement;
+
+    public GAResult(Chromosome bestChromosome, TestCase testCase, String stopReason, int generations) {
+        this(bestChromosome, testCase, stopReason, generations, generations);
+    }
+
+    public GAResult(Chromosome bestChromosome, TestCase testCase, String stopReason, int generations,
+                    int lastImprovement) {
+        this.bestChromosome = bestChromosome;
+        this.testCase = testCase;
+        this.stopReason = stopReason;
+        this.generations = generations;
+        this.lastImprovement = lastImprovement;
+    }
+
+    public Chromosome getBestChromosome() {
+        return bestChromosome;
+    }
+
+    public TestCase getTestCase() {
+        return testCase;
+    }
+
+    // Name of the termination rule that ended the run
+    public String getStopReason() {
+        return stopReason;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    // Generation in which the best chromosome was found
+    public int getLastImprovement() {
+        return lastImprovement;
+    }
+}
+
+
+class Population {
+    // Upper bound on genes handled per chunk; chunks of big genomes hold fewer slots
+    private static final int CHUNK_GENES = 1 << 20;
+    // Re-mutations tried on a duplicate before it is left as is
+    private static final int DEDUP_ATTEMPTS = 4;
+
+    public Chromosome[] chromosomes;
+    private Chromosome[] offspring;
+    private final ProblemContext context;
+    private final Chromosome elite;
+    private final Chromosome spare;
+    private final int numTasks;
+    private final double crossoverRate;
+    private final double mutationRate;
+    private final SelectionStrategy selection;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final SplittableRandom[] chunkRandoms;
+    private RepairOperator repair;
+    private LocalSearch localSearch;
+    private int memeticCount;
+    private SplittableRandom memeticRandom;
+    private FitnessCache[] caches;
+    private DuplicateFilter duplicateFilter;
+    private long[] hashes;
+    private SplittableRandom dedupRandom;
+    private int reseedInterval;
+    private long seed;
+    private long startNanos = System.nanoTime();
+    private int generation;
+    private int lastImprovement;
+    private long evaluations;
+
+    // Both generation buffers are allocated up front; evolve() breeds into the
+    // offspring buffer in place and swaps, so later generations allocate nothing.
+    //
+    // Slots are split into fixed-size chunks, each with its own random stream
+    // split from rand. Chunk boundaries depend only on the population and
+    // problem size, so a seeded run gives the same result with or without a
+    // pool and at any pool parallelism.
+    public Population(int populationSize, ProblemContext context, double crossoverRate, double mutationRate,
+                      SelectionStrategy selection, SplittableRandom rand, ForkJoinPool pool) {
+        this(populationSize, null, context, crossoverRate, mutationRate, selection, rand, pool);
+    }
+
+    // Warm start: `initial` (which the population takes over) is the first
+    // generation instead of random chromosomes
+    public Population(Chromosome[] initial, ProblemContext context, double crossoverRate, double mutationRate,
+                      SelectionStrategy selection, SplittableRandom rand, ForkJoinPool pool) {
+        this(initial.length, initial, context, crossoverRate, mutationRate, selection, rand, pool);
+    }
+
+    private Population(int populationSize, Chromosome[] initial, ProblemContext context, double crossoverRate,
+                       double mutationRate, SelectionStrategy selection, SplittableRandom rand, ForkJoinPool pool) {
+        this.context = context;
+        this.numTasks = context.getNumTasks();
+        this.crossoverRate = crossoverRate;
+        this.mutationRate = mutationRate;
+        this.selection = selection;
+        this.pool = pool;
+        this.chunkSize = Math.max(2, Math.min(64, CHUNK_GENES / Math.max(1, numTasks)) & ~1);
+        this.chunkRandoms = new SplittableRandom[(populationSize + chunkSize - 1) / chunkSize];
+        for (int c = 0; c < chunkRandoms.length; c++) {
+            chunkRandoms[c] = rand.split();
+        }
+
+        chromosomes = initial != null ? initial : new Chromosome[populationSize];
+        offspring = new Chromosome[populationSize];
+        forEachChunk(c -> {
+            int from = c * chunkSize;
+            int count = Math.min(populationSize, (c + 1) * chunkSize) - from;
+            if (initial == null) {
+                // Random genomes of the chunk are scored together in one batched pass
+                Genome[] genomes = new Genome[count];
+                long[][] loads = new long[count][context.getNumCores()];
+                for (int k = 0; k < count; k++) {
+                    genomes[k] = context.newGenome();
+                    genomes[k].randomize(chunkRandoms[c]);
+                }
+                LoadKernel.active().computeLoads(genomes, count, context, loads);
+                for (int k = 0; k < count; k++) {
+                    chromosomes[from + k] = new Chromosome(genomes[k], context, loads[k]);
+                }
+            }
+            for (int k = 0; k < count; k++) {
+                offspring[from + k] = blank();
+            }
+        });
+        spare = blank();
+        elite = blank();
+        elite.copyFrom(getBestChromosome());
+        evaluations = initial != null ? 0 : populationSize;
+    }
+
+    // All genes 0, so all work is on core 0 and the loads need no pass over the tasks
+    private Chromosome blank() {
+        long[] loads = new long[context.getNumCores()];
+        loads[0] = context.getTotalTime();
+        return new Chromosome(context.newGenome(), context, loads);
+    }
+
+    public void evolve() {
+        selection.prepare(chromosomes);
+        forEachChunk(this::breedChunk);
+
+        // Elitism: the best chromosome found so far survives unchanged
+        offspring[offspring.length - 1].copyFrom(elite);
+
+        Chromosome[] previous = chromosomes;
+        chromosomes = offspring;
+        offspring = previous;
+
+        if (localSearch != null) {
+            refineBest(memeticCount);
+        }
+
+        generation++;
+        // Every slot but the elite's is bred in pairs, the odd one out via the spare
+        evaluations += chromosomes.length & ~1;
+        if (duplicateFilter != null) {
+            evaluations += deduplicate();
+        }
+
+        Chromosome currentBest = getBestChromosome();
+        if (currentBest.getFitness() < elite.getFitness()) {
+            elite.copyFrom(currentBest);
+            lastImprovement = generation;
+        }
+        if (reseedInterval > 0 && generation % reseedInterval == 0) {
+            reseed();
+        }
+    }
+
+    // Repairs infeasible offspring as they are bred, starting with the
+    // current generation
+    public void setRepair(RepairOperator repair) {
+        this.repair = repair;
+        for (Chromosome chromosome : chromosomes) {
+            repairIfNeeded(chromosome);
+        }
+        Chromosome currentBest = getBestChromosome();
+        if (currentBest.getFitness() < elite.getFitness()) {
+            elite.copyFrom(currentBest);
+        }
+    }
+
+    // Memetic step: hill-climb the `count` fittest members of the new generation
+    public void setLocalSearch(LocalSearch localSearch, int count, SplittableRandom rand) {
+        this.localSearch = localSearch;
+        this.memeticCount = count;
+        this.memeticRandom = rand;
+    }
+
+    private void refineBest(int count) {
+        int previousFitness = Integer.MIN_VALUE;
+        int previousIndex = -1;
+        for (int r = 0; r < Math.min(count, chromosomes.length); r++) {
+            // Next fittest after the previous pick, ordered by (fitness, index)
+            int pick = -1;
+            for (int i = 0; i < chromosomes.length; i++) {
+                int fitness = chromosomes[i].getFitness();
+                boolean afterPrevious = fitness > previousFitness || (fitness == previousFitness && i > previousIndex);
+                if (afterPrevious && (pick < 0 || fitness < chromosomes[pick].getFitness())) {
+                    pick = i;
+                }
+            }
+            previousFitness = chromosomes[pick].getFitness();
+            previousIndex = pick;
+            localSearch.improve(chromosomes[pick], context, memeticRandom);
+        }
+    }
+
+    // Memoises the loads of crossover children by genome hash, with one
+    // cache of entries / chunks genomes per breeding chunk so threads never
+    // share one. A hit yields the same loads as patching them in, so the
+    // cache never changes a run's results, and nothing of it is checkpointed.
+    public void setFitnessCache(int entries) {
+        caches = new FitnessCache[chunkRandoms.length];
+        for (int c = 0; c < caches.length; c++) {
+            caches[c] = new FitnessCache(Math.max(FitnessCache.WAYS, entries / caches.length),
+                    context.getNumCores());
+        }
+    }
+
+    // Totals over the chunk caches, 0 without a cache
+    public long getCacheHits() {
+        if (caches == null) {
+            return 0;
+        }
+        long hits = 0;
+        for (FitnessCache cache : caches) {
+            hits += cache.getHits();
+        }
+        return hits;
+    }
+
+    public long getCacheMisses() {
+        if (caches == null) {
+            return 0;
+        }
+        long misses = 0;
+        for (FitnessCache cache : caches) {
+            misses += cache.getMisses();
+        }
+        return misses;
+    }
+
+    // Re-mutates exact copies within each new generation, so they don't
+    // waste a slot. Costs one hash pass over every genome per generation.
+    public void setDeduplication(SplittableRandom dedupRandom) {
+        this.duplicateFilter = new DuplicateFilter(chromosomes.length);
+        this.hashes = new long[chromosomes.length];
+        this.dedupRandom = dedupRandom;
+    }
+
+    public DuplicateFilter getDuplicateFilter() {
+        return duplicateFilter;
+    }
+
+    // Genomes are hashed chunk by chunk on the pool; the filter is then fed
+    // in slot order, so seeded runs stay reproducible. The elite goes first
+    // and is never re-mutated. Returns the number of re-mutations, each of
+    // which counts as an evaluation.
+    private int deduplicate() {
+        forEachChunk(c -> {
+            int end = Math.min(chromosomes.length, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < end; i++) {
+                hashes[i] = chromosomes[i].getGenome().longHash();
+            }
+        });
+        duplicateFilter.clear();
+        int elite = chromosomes.length - 1;
+        duplicateFilter.add(hashes[elite]);
+        int remutated = 0;
+        for (int i = 0; i < elite; i++) {
+            long hash = hashes[i];
+            for (int attempt = 0; !duplicateFilter.add(hash) && attempt < DEDUP_ATTEMPTS; attempt++) {
+                chromosomes[i].perturb(dedupRandom);
+                hash = chromosomes[i].getGenome().longHash();
+                remutated++;
+            }
+        }
+        return remutated;
+    }
+
+    // Every `interval` generations the random streams are replaced by ones
+    // derived from a seed drawn from the current state. A checkpoint taken at
+    // such a generation stores only that seed, so a resumed run continues
+    // exactly as the original would. Reseeding does not depend on whether
+    // checkpoints are written, so neither do seeded results.
+    public void setReseedInterval(int interval) {
+        this.reseedInterval = interval;
+    }
+
+    public int getReseedInterval() {
+        return reseedInterval;
+    }
+
+    // Seed of the last reseed, or 0 before the first
+    public long getSeed() {
+        return seed;
+    }
+
+    private void reseed() {
+        applySeed(chunkRandoms[0].nextLong());
+    }
+
+    void applySeed(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int c = 0; c < chunkRandoms.length; c++) {
+            chunkRandoms[c] = root.split();
+        }
+        if (dedupRandom != null) {
+            dedupRandom = root.split();
+        }
+        if (memeticRandom != null) {
+            memeticRandom = root.split();
+        }
+    }
+
+    // Used on resume, once the chromosomes and elite have been reloaded
+    void restoreProgress(int generation, int lastImprovement, long evaluations, long elapsedNanos) {
+        this.generation = generation;
+        this.lastImprovement = lastImprovement;
+        this.evaluations = evaluations;
+        this.startNanos = System.nanoTime() - elapsedNanos;
+    }
+
+    // Fills offspring slots of chunk c, leaving the last slot for the elite.
+    // Chunk sizes are even, so a pair of children never straddles two chunks.
+    private void breedChunk(int c) {
+        SplittableRandom rand = chunkRandoms[c];
+        FitnessCache cache = caches != null ? caches[c] : null;
+        int end = Math.min(offspring.length - 1, (c + 1) * chunkSize);
+        for (int i = c * chunkSize; i < end; i += 2) {
+            Chromosome parent1 = selection.select(rand);
+            Chromosome parent2 = selection.select(rand);
+            Chromosome child1 = offspring[i];
+            Chromosome child2 = i + 1 < end ? offspring[i + 1] : spare;
+
+            if (numTasks > 1 && rand.nextDouble() < crossoverRate) {
+                int crossoverPoint = rand.nextInt(numTasks - 1) + 1;
+                child1.onePointCrossover(parent1, parent2, crossoverPoint, cache);
+                child2.onePointCrossover(parent2, parent1, crossoverPoint, cache);
+            } else {
+                child1.copyFrom(parent1);
+                child2.copyFrom(parent2);
+            }
+
+            child1.mutate(mutationRate, rand);
+            child2.mutate(mutationRate, rand);
+            if (repair != null) {
+                repairIfNeeded(child1);
+                repairIfNeeded(child2);
+            }
+        }
+    }
+
+    private void repairIfNeeded(Chromosome chromosome) {
+        if (!chromosome.isFeasible()) {
+            repair.repair(chromosome);
+        }
+    }
+
+    private void forEachChunk(IntConsumer body) {
+        if (pool == null || chunkRandoms.length == 1) {
+            for (int c = 0; c < chunkRandoms.length; c++) {
+                body.accept(c);
+            }
+        } else {
+            pool.invoke(new ChunkAction(body, 0, chunkRandoms.length));
+        }
+    }
+
+    private static class ChunkAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer body;
+        private final int from;
+        private final int to;
+
+        ChunkAction(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkAction(body, from, mid), new ChunkAction(body, mid, to));
+            }
+        }
+    }
+
+    public Chromosome getBestChromosome() {
+        Chromosome best = chromosomes[0];
+        for (Chromosome c : chromosomes) {
+            if (c.getFitness() < best.getFitness()) {
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    // Overwrites the chromosome in `slot` of the current generation with a copy of genome
+    public void inject(int slot, Genome genome) {
+        Chromosome chromosome = chromosomes[slot];
+        chromosome.getGenome().copyFrom(genome);
+        chromosome.evaluateFitness();
+        if (chromosome.getFitness() < elite.getFitness()) {
+            elite.copyFrom(chromosome);
+            lastImprovement = generation;
+        }
+    }
+
+    // Replaces the least fit member of the current generation with a copy of migrant
+    public void immigrate(Chromosome migrant) {
+        Chromosome worst = chromosomes[0];
+        for (Chromosome c : chromosomes) {
+            if (c.getFitness() > worst.getFitness()) {
+                worst = c;
+            }
+        }
+        worst.copyFrom(migrant);
+        if (migrant.getFitness() < elite.getFitness()) {
+            elite.copyFrom(migrant);
+            lastImprovement = generation;
+        }
+    }
+
+    // Best chromosome seen in any generation so far
+    public Chromosome getBestSoFar() {
+        return elite;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    // Generation in which the best-so-far chromosome last improved
+    public int getLastImprovement() {
+        return lastImprovement;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long getLowerBound() {
+        return context.getLowerBound();
+    }
+
+    public int size() {
+        return chromosomes.length;
+    }
+}
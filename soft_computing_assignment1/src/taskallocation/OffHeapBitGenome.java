@@ -0,0 +1,212 @@
+package taskallocation;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+// BitGenome layout in a GenomeArena slot: 64 genes per native-order long,
+// bits past `length` kept clear. Operations between two arena genomes copy
+// whole words between the slots; any other genome is handled gene by gene.
+final class OffHeapBitGenome implements Genome {
+    private final ByteBuffer page;
+    private final int offset;
+    private final int length;
+    private final int numWords;
+
+    OffHeapBitGenome(ByteBuffer page, int offset, int length) {
+        this.page = page;
+        this.offset = offset;
+        this.length = length;
+        this.numWords = (length + 63) >>> 6;
+    }
+
+    // Backing page and the slot's first byte in it, for the load kernels
+    ByteBuffer page() {
+        return page;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    long word(int w) {
+        return page.getLong(offset + (w << 3));
+    }
+
+    private void putWord(int w, long word) {
+        page.putLong(offset + (w << 3), word);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public int numCores() {
+        return 2;
+    }
+
+    @Override
+    public int get(int index) {
+        return (int) (word(index >>> 6) >>> index) & 1;
+    }
+
+    @Override
+    public void set(int index, int value) {
+        int w = index >>> 6;
+        if (value != 0) {
+            putWord(w, word(w) | 1L << index);
+        } else {
+            putWord(w, word(w) & ~(1L << index));
+        }
+    }
+
+    @Override
+    public void randomize(RandomGenerator rand) {
+        for (int w = 0; w < numWords; w++) {
+            putWord(w, rand.nextLong());
+        }
+        clearTail();
+    }
+
+    @Override
+    public void copyFrom(Genome other) {
+        if (other instanceof OffHeapBitGenome) {
+            OffHeapBitGenome source = (OffHeapBitGenome) other;
+            page.put(offset, source.page, source.offset, numWords << 3);
+        } else if (other instanceof BitGenome) {
+            long[] words = ((BitGenome) other).words();
+            for (int w = 0; w < numWords; w++) {
+                putWord(w, words[w]);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                set(i, other.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void splice(Genome head, Genome tail, int point) {
+        if (!(head instanceof OffHeapBitGenome && tail instanceof OffHeapBitGenome)) {
+            for (int i = 0; i < length; i++) {
+                set(i, i < point ? head.get(i) : tail.get(i));
+            }
+            return;
+        }
+        OffHeapBitGenome headGenome = (OffHeapBitGenome) head;
+        OffHeapBitGenome tailGenome = (OffHeapBitGenome) tail;
+        int w = point >>> 6;
+        page.put(offset, headGenome.page, headGenome.offset, w << 3);
+        if (w < numWords) {
+            long headMask = (1L << point) - 1;
+            putWord(w, (headGenome.word(w) & headMask) | (tailGenome.word(w) & ~headMask));
+            page.put(offset + ((w + 1) << 3), tailGenome.page, tailGenome.offset + ((w + 1) << 3),
+                    (numWords - w - 1) << 3);
+        }
+    }
+
+    @Override
+    public void computeLoads(ProblemContext context, long[] loads) {
+        long core1Time = 0;
+        for (int w = 0; w < numWords; w++) {
+            long word = word(w);
+            int base = w << 6;
+            while (word != 0) {
+                core1Time += context.getTaskExecutionTime(base + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        loads[1] = core1Time;
+        loads[0] = context.getTotalTime() - core1Time;
+    }
+
+    @Override
+    public void applyDelta(Genome other, int from, int to, ProblemContext context, long[] loads) {
+        long delta = 0;
+        if (other instanceof OffHeapBitGenome) {
+            OffHeapBitGenome source = (OffHeapBitGenome) other;
+            for (int w = from >>> 6; w < numWords && (w << 6) < to; w++) {
+                int base = w << 6;
+                long rangeMask = -1L;
+                if (from > base) {
+                    rangeMask &= -1L << from;
+                }
+                if (to - base < 64) {
+                    rangeMask &= (1L << to) - 1;
+                }
+                long otherWord = source.word(w);
+                long diff = (word(w) ^ otherWord) & rangeMask;
+                while (diff != 0) {
+                    int bit = Long.numberOfTrailingZeros(diff);
+                    int time = context.getTaskExecutionTime(base + bit);
+                    delta += ((otherWord >>> bit) & 1) != 0 ? time : -time;
+                    diff &= diff - 1;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                int gene = other.get(i);
+                if (gene != get(i)) {
+                    int time = context.getTaskExecutionTime(i);
+                    delta += gene != 0 ? time : -time;
+                }
+            }
+        }
+        loads[1] += delta;
+        loads[0] -= delta;
+    }
+
+    private void clearTail() {
+        int remaining = length & 63;
+        if (remaining != 0) {
+            putWord(numWords - 1, word(numWords - 1) & ((1L << remaining) - 1));
+        }
+    }
+
+    // Heap copy, which stays valid after the arena is closed
+    @Override
+    public BitGenome copy() {
+        BitGenome copy = new BitGenome(length);
+        long[] words = copy.words();
+        for (int w = 0; w < numWords; w++) {
+            words[w] = word(w);
+        }
+        return copy;
+    }
+
+    @Override
+    public BitGenome resized(int newLength) {
+        return copy().resized(newLength);
+    }
+
+    @Override
+    public int encodedSize() {
+        return numWords * Long.BYTES;
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        for (int w = 0; w < numWords; w++) {
+            buffer.putLong(word(w));
+        }
+    }
+
+    @Override
+    public void readFrom(ByteBuffer buffer) {
+        for (int w = 0; w < numWords; w++) {
+            putWord(w, buffer.getLong());
+        }
+        clearTail();
+    }
+
+    // Same as BitGenome's, so deduplication sees equal genomes as equal
+    @Override
+    public long longHash() {
+        long hash = length;
+        for (int w = 0; w < numWords; w++) {
+            hash = hash * 0x9E3779B97F4A7C15L + word(w);
+        }
+        return hash;
+    }
+}
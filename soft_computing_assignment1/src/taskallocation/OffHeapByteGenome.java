@@ -0,0 +1,161 @@
+package taskallocation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// ByteGenome layout in a GenomeArena slot: one unsigned byte per task.
+// Operations between two arena genomes copy byte ranges between the slots;
+// any other genome is handled gene by gene.
+final class OffHeapByteGenome implements Genome {
+    // Pages are in native order; the hash reads words big-endian
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    private final ByteBuffer page;
+    private final int offset;
+    private final int length;
+    private final int numCores;
+
+    OffHeapByteGenome(ByteBuffer page, int offset, int length, int numCores) {
+        this.page = page;
+        this.offset = offset;
+        this.length = length;
+        this.numCores = numCores;
+    }
+
+    // Backing page and the slot's first byte in it, for the load kernels
+    ByteBuffer page() {
+        return page;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public int numCores() {
+        return numCores;
+    }
+
+    @Override
+    public int get(int index) {
+        return page.get(offset + index) & 0xFF;
+    }
+
+    @Override
+    public void set(int index, int value) {
+        page.put(offset + index, (byte) value);
+    }
+
+    @Override
+    public void randomize(RandomGenerator rand) {
+        for (int i = 0; i < length; i++) {
+            page.put(offset + i, (byte) rand.nextInt(numCores));
+        }
+    }
+
+    @Override
+    public void copyFrom(Genome other) {
+        if (other instanceof OffHeapByteGenome) {
+            OffHeapByteGenome source = (OffHeapByteGenome) other;
+            page.put(offset, source.page, source.offset, length);
+        } else if (other instanceof ByteGenome) {
+            page.put(offset, ((ByteGenome) other).genes());
+        } else {
+            for (int i = 0; i < length; i++) {
+                set(i, other.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void splice(Genome head, Genome tail, int point) {
+        if (head instanceof OffHeapByteGenome && tail instanceof OffHeapByteGenome) {
+            OffHeapByteGenome headGenome = (OffHeapByteGenome) head;
+            OffHeapByteGenome tailGenome = (OffHeapByteGenome) tail;
+            page.put(offset, headGenome.page, headGenome.offset, point);
+            page.put(offset + point, tailGenome.page, tailGenome.offset + point, length - point);
+        } else {
+            for (int i = 0; i < length; i++) {
+                set(i, i < point ? head.get(i) : tail.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void computeLoads(ProblemContext context, long[] loads) {
+        Arrays.fill(loads, 0);
+        for (int i = 0; i < length; i++) {
+            loads[page.get(offset + i) & 0xFF] += context.getTaskExecutionTime(i);
+        }
+    }
+
+    @Override
+    public void applyDelta(Genome other, int from, int to, ProblemContext context, long[] loads) {
+        for (int i = from; i < to; i++) {
+            int gene = get(i);
+            int otherGene = other.get(i);
+            if (gene != otherGene) {
+                int time = context.getTaskExecutionTime(i);
+                loads[gene] -= time;
+                loads[otherGene] += time;
+            }
+        }
+    }
+
+    // Heap copy, which stays valid after the arena is closed
+    @Override
+    public ByteGenome copy() {
+        ByteGenome copy = new ByteGenome(length, numCores);
+        page.get(offset, copy.genes());
+        return copy;
+    }
+
+    @Override
+    public ByteGenome resized(int newLength) {
+        return copy().resized(newLength);
+    }
+
+    @Override
+    public int encodedSize() {
+        return length;
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(page.slice(offset, length));
+    }
+
+    @Override
+    public void readFrom(ByteBuffer buffer) {
+        page.put(offset, buffer, buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        for (int i = 0; i < length; i++) {
+            if (get(i) >= numCores) {
+                throw new IllegalArgumentException("Gene " + get(i) + " out of range for " + numCores + " cores");
+            }
+        }
+    }
+
+    // Same as ByteGenome's, so deduplication sees equal genomes as equal
+    @Override
+    public long longHash() {
+        long hash = length;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            long word = page.getLong(offset + i);
+            hash = hash * 0x9E3779B97F4A7C15L + (LITTLE_ENDIAN ? Long.reverseBytes(word) : word);
+        }
+        long word = 0;
+        for (; i < length; i++) {
+            word = word << 8 | get(i);
+        }
+        return hash * 0x9E3779B97F4A7C15L + word;
+    }
+}
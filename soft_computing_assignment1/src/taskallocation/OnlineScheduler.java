@@ -0,0 +1,256 @@
+package taskallocation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Keeps one schedule up to date while tasks arrive and leave. Tasks are
+// known by the id addTask returns (the initial tasks are 0..n-1). Inside, they
+// are packed into positions 0..size-1, and removing one moves the last task
+// into the freed position, so every change touches O(1) genes.
+//
+// The first replan() is a full GA run. Later ones warm-start from the
+// population the previous plan left behind instead of starting over:
+//   - every genome is copied at its new length in bulk and only positions
+//     whose task changed are rewritten;
+//   - cached core loads are patched with the times of removed tasks, and
+//     new tasks go to whichever core is lightest at that point;
+//   - the patched best plan is hill-climbed, which usually closes the small
+//     imbalance a few changes leave behind;
+//   - a short run of at most options.replanGenerations generations refines
+//     the result under the current maxTimeLimit, and gives up early once
+//     a few generations bring no improvement.
+// Not thread-safe; islands, checkpoints, telemetry and off-heap genomes are
+// not used.
+public class OnlineScheduler {
+    // Generations without improvement after which a re-plan stops
+    private static final int REPLAN_STAGNATION = 5;
+
+    private final GAOptions options;
+    private final int numCores;
+    private final SplittableRandom rand;
+    private GAParameters parameters;
+
+    // Current tasks by position
+    private int[] taskTimes;
+    private int[] taskIds;
+    // Position each task had in the last plan, or -1 if added since
+    private int[] origin;
+    private int size;
+    private int maxTimeLimit;
+    // Position of every id handed out, or -1 once the task is removed
+    private int[] positions;
+    private int nextId;
+
+    // Changes since the last plan: positions that may hold a different task
+    // (each listed once) and plan positions of removed tasks
+    private int[] dirty = new int[16];
+    private boolean[] isDirty;
+    private int dirtyCount;
+    private int[] removed = new int[16];
+    private int removedCount;
+
+    private ProblemContext context;
+    private Population population;
+    private Chromosome best;
+
+    public OnlineScheduler(int[] taskTimes, int maxTimeLimit, GAOptions options) {
+        this.options = options;
+        this.numCores = options.cores;
+        this.rand = options.randomProvider().forTestCase(0);
+        this.size = taskTimes.length;
+        this.taskTimes = Arrays.copyOf(taskTimes, Math.max(16, size));
+        this.taskIds = new int[this.taskTimes.length];
+        this.origin = new int[this.taskTimes.length];
+        this.isDirty = new boolean[this.taskTimes.length];
+        this.positions = new int[this.taskTimes.length];
+        for (int i = 0; i < size; i++) {
+            this.taskIds[i] = i;
+            this.positions[i] = i;
+            this.origin[i] = -1;
+        }
+        this.nextId = size;
+        this.maxTimeLimit = maxTimeLimit;
+    }
+
+    // Returns the id of the new task
+    public int addTask(int time) {
+        if (size == taskTimes.length) {
+            int capacity = size * 2;
+            taskTimes = Arrays.copyOf(taskTimes, capacity);
+            taskIds = Arrays.copyOf(taskIds, capacity);
+            origin = Arrays.copyOf(origin, capacity);
+            isDirty = Arrays.copyOf(isDirty, capacity);
+        }
+        if (nextId == positions.length) {
+            positions = Arrays.copyOf(positions, nextId * 2);
+        }
+        int id = nextId++;
+        int position = size++;
+        taskTimes[position] = time;
+        taskIds[position] = id;
+        origin[position] = -1;
+        positions[id] = position;
+        markDirty(position);
+        return id;
+    }
+
+    public void removeTask(int id) {
+        int position = positionOf(id);
+        if (origin[position] >= 0) {
+            if (removedCount == removed.length) {
+                removed = Arrays.copyOf(removed, removedCount * 2);
+            }
+            removed[removedCount++] = origin[position];
+        }
+        int last = --size;
+        if (position != last) {
+            taskTimes[position] = taskTimes[last];
+            taskIds[position] = taskIds[last];
+            origin[position] = origin[last];
+            positions[taskIds[position]] = position;
+            markDirty(position);
+        }
+        positions[id] = -1;
+    }
+
+    public void setMaxTimeLimit(int maxTimeLimit) {
+        this.maxTimeLimit = maxTimeLimit;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Plans the current tasks. The result's chromosome is indexed by
+    // position; coreOf() maps task ids onto it.
+    public GAResult replan() {
+        TestCase testCase = new TestCase(size, maxTimeLimit, Arrays.copyOf(taskTimes, size));
+        ProblemContext next = new ProblemContext(testCase, numCores);
+        boolean cold = population == null;
+        if (cold) {
+            parameters = options.parametersFor(testCase);
+            population = TaskAllocationGA.newPopulation(next, options, parameters, rand.split());
+        } else {
+            population = warmStart(next);
+        }
+        context = next;
+
+        TerminationPolicy termination;
+        if (cold) {
+            termination = TaskAllocationGA.terminationPolicy(options, parameters);
+        } else {
+            GAParameters replan = parameters.withMaxGenerations(options.replanGenerations);
+            termination = TerminationPolicy.anyOf(List.of(TaskAllocationGA.terminationPolicy(options, replan),
+                    TerminationPolicy.stagnation(REPLAN_STAGNATION)));
+        }
+        String stopReason;
+        while ((stopReason = termination.check(population)) == null) {
+            population.evolve();
+        }
+        best = population.getBestSoFar();
+
+        for (int i = 0; i < dirtyCount; i++) {
+            isDirty[dirty[i]] = false;
+        }
+        dirtyCount = 0;
+        removedCount = 0;
+        for (int i = 0; i < size; i++) {
+            origin[i] = i;
+        }
+        return new GAResult(best, testCase, stopReason, population.getGeneration(),
+                population.getLastImprovement());
+    }
+
+    // Core (1-based, as in the output) of a task in the last plan
+    public int coreOf(int id) {
+        if (best == null) {
+            throw new IllegalStateException("Nothing has been planned yet");
+        }
+        int planned = origin[positionOf(id)];
+        if (planned < 0) {
+            throw new IllegalArgumentException("Task " + id + " was added after the last plan");
+        }
+        return numCores - best.getGenome().get(planned);
+    }
+
+    private Population warmStart(ProblemContext next) {
+        // Positions that really hold a different task now
+        int changed = 0;
+        for (int i = 0; i < dirtyCount; i++) {
+            int position = dirty[i];
+            if (position < size && origin[position] != position) {
+                dirty[changed++] = position;
+            } else {
+                isDirty[position] = false;
+            }
+        }
+        dirtyCount = changed;
+
+        // The best plan so far takes the slot elitism would overwrite anyway
+        Chromosome[] previous = population.chromosomes;
+        Chromosome[] warm = new Chromosome[previous.length];
+        for (int i = 0; i < previous.length - 1; i++) {
+            warm[i] = patch(previous[i], next);
+        }
+        Chromosome elite = patch(population.getBestSoFar(), next);
+        new LocalSearch(options.memeticSteps, TaskAllocationGA.MEMETIC_CANDIDATES).improve(elite, next, rand);
+        warm[previous.length - 1] = elite;
+
+        Population warmed = new Population(warm, next, parameters.getCrossoverRate(),
+                parameters.getMutationRate(), SelectionStrategy.create(options.selection), rand.split(),
+                options.generationPool());
+        TaskAllocationGA.configure(warmed, next, options, rand);
+        return warmed;
+    }
+
+    private Chromosome patch(Chromosome old, ProblemContext next) {
+        Genome oldGenome = old.getGenome();
+        Genome genome = oldGenome.resized(size);
+        long[] loads = new long[numCores];
+        for (int core = 0; core < numCores; core++) {
+            loads[core] = old.getLoad(core);
+        }
+        for (int i = 0; i < removedCount; i++) {
+            loads[oldGenome.get(removed[i])] -= context.getTaskExecutionTime(removed[i]);
+        }
+        // Moved tasks keep their core, so their time is already counted
+        for (int i = 0; i < dirtyCount; i++) {
+            int position = dirty[i];
+            if (origin[position] >= 0) {
+                genome.set(position, oldGenome.get(origin[position]));
+            }
+        }
+        for (int i = 0; i < dirtyCount; i++) {
+            int position = dirty[i];
+            if (origin[position] < 0) {
+                int lightest = 0;
+                for (int core = 1; core < numCores; core++) {
+                    if (loads[core] < loads[lightest]) {
+                        lightest = core;
+                    }
+                }
+                genome.set(position, lightest);
+                loads[lightest] += taskTimes[position];
+            }
+        }
+        return new Chromosome(genome, next, loads);
+    }
+
+    private void markDirty(int position) {
+        if (!isDirty[position]) {
+            isDirty[position] = true;
+            if (dirtyCount == dirty.length) {
+                dirty = Arrays.copyOf(dirty, dirtyCount * 2);
+            }
+            dirty[dirtyCount++] = position;
+        }
+    }
+
+    private int positionOf(int id) {
+        if (id < 0 || id >= nextId || positions[id] < 0) {
+            throw new IllegalArgumentException("Unknown task id: " + id);
+        }
+        return positions[id];
+    }
+}
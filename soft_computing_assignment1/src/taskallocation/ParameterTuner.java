@@ -0,0 +1,233 @@
+package taskallocation;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Picks GA parameters per task-count bucket by successive halving. Every
+// candidate of a grid (plus the command-line settings) runs on the first few
+// test cases of the bucket with a small evaluation budget; only the best
+// third survives into the next round, which gets three times the budget,
+// until one candidate remains and has run with the full --tune-budget.
+//
+// A run hits the target when its makespan is within tuneTarget of the lower
+// bound, or no worse than the best any candidate has reached on that sample
+// (small instances often cannot reach the bound). Candidates are ranked by
+// hits, then by mean gap to the bound, then by evaluations spent until their
+// best was found, so among candidates that all hit the target the cheapest
+// wins. The winner's max generations is what it needed to hit the target on
+// every sample, with some headroom, or its whole budget if it missed.
+//
+// All runs of a round execute in parallel, and every candidate sees the same
+// random streams for a given sample, so the comparison is not down to luck.
+public class ParameterTuner {
+    private static final int SAMPLES_PER_BUCKET = 4;
+    private static final int SURVIVOR_FRACTION = 3;
+    private static final int[] POPULATION_SIZES = {20, 50, 100, 200};
+    private static final double[] CROSSOVER_RATES = {0.6, 0.8, 0.95};
+    // Expected mutated genes per child, turned into per-gene rates for the
+    // bucket's typical test case size
+    private static final double[] MUTATIONS_PER_CHILD = {0.5, 1, 2, 8};
+    private static final double GENERATION_HEADROOM = 1.5;
+    // Floor for buckets the initial heuristics already solve, so the profile
+    // still leaves room for harder test cases of the same size
+    private static final int MIN_GENERATIONS = 10;
+
+    private static class Candidate {
+        final GAParameters parameters;
+        int hits;
+        double meanGap;
+        double meanEvaluations;
+        int generationsToTarget;
+
+        Candidate(GAParameters parameters) {
+            this.parameters = parameters;
+        }
+    }
+
+    public static TuningProfile tune(Iterator<TestCase> testCases, GAOptions options, PrintStream log) {
+        Map<Integer, List<TestCase>> samples = new TreeMap<>();
+        while (testCases.hasNext()) {
+            TestCase testCase = testCases.next();
+            List<TestCase> bucket = samples.computeIfAbsent(TuningProfile.bucketOf(testCase.numTasks),
+                    bound -> new ArrayList<>());
+            if (bucket.size() < SAMPLES_PER_BUCKET) {
+                bucket.add(testCase);
+            }
+        }
+
+        // Tuning runs only race; they must not leave checkpoints or MBeans behind
+        GAOptions runOptions = options.copy();
+        runOptions.checkpointDir = null;
+        runOptions.resume = false;
+        runOptions.jmx = false;
+        runOptions.targetGap = options.tuneTarget;
+
+        TuningProfile profile = new TuningProfile();
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads, runnable -> {
+            Thread thread = new Thread(runnable, "ga-tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Map.Entry<Integer, List<TestCase>> bucket : samples.entrySet()) {
+                int bound = bucket.getKey();
+                String name = bound == Integer.MAX_VALUE ? "of the largest size" : "<= " + bound + " tasks";
+                GAParameters winner = race(bucket.getValue(), runOptions, options, pool, name, log);
+                profile.put(bound, winner);
+                log.println("Bucket " + name + ": " + winner);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return profile;
+    }
+
+    private static GAParameters race(List<TestCase> samples, GAOptions runOptions, GAOptions options,
+                                     ExecutorService pool, String name, PrintStream log) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (GAParameters parameters : grid(samples, options)) {
+            candidates.add(new Candidate(parameters));
+        }
+        long[] lowerBounds = new long[samples.size()];
+        long[] bestKnown = new long[samples.size()];
+        for (int s = 0; s < samples.size(); s++) {
+            lowerBounds[s] = new ProblemContext(samples.get(s), options.cores).getLowerBound();
+            bestKnown[s] = Long.MAX_VALUE;
+        }
+
+        int rounds = 1;
+        for (int remaining = candidates.size(); remaining > 1; remaining = survivors(remaining)) {
+            rounds++;
+        }
+        for (int round = 0; round < rounds; round++) {
+            long budget = Math.max(1, options.tuneBudget / pow(SURVIVOR_FRACTION, rounds - 1 - round));
+            log.println("Bucket " + name + ": round " + (round + 1) + "/" + rounds + ", " + candidates.size()
+                    + " candidates on " + samples.size() + " samples, " + budget + " evaluations each");
+            GAOptions roundOptions = runOptions.copy();
+            roundOptions.maxEvaluations = budget;
+            evaluate(candidates, samples, lowerBounds, bestKnown, roundOptions, pool);
+            candidates.sort(Comparator.comparingInt((Candidate c) -> -c.hits)
+                    .thenComparingDouble(c -> c.meanGap)
+                    .thenComparingDouble(c -> c.meanEvaluations));
+            if (round + 1 < rounds) {
+                candidates = new ArrayList<>(candidates.subList(0, survivors(candidates.size())));
+            }
+        }
+
+        Candidate winner = candidates.get(0);
+        int generations;
+        if (winner.hits == samples.size()) {
+            generations = Math.max(MIN_GENERATIONS,
+                    (int) Math.ceil(winner.generationsToTarget * GENERATION_HEADROOM));
+        } else {
+            generations = (int) Math.min(Integer.MAX_VALUE,
+                    options.tuneBudget / winner.parameters.getPopulationSize());
+        }
+        return winner.parameters.withMaxGenerations(generations);
+    }
+
+    // Runs every candidate on every sample, all in parallel, and scores them
+    private static void evaluate(List<Candidate> candidates, List<TestCase> samples, long[] lowerBounds,
+                                 long[] bestKnown, GAOptions roundOptions, ExecutorService pool) {
+        List<Callable<GAResult>> runs = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            // The evaluation budget ends the run, not the generation count
+            GAParameters unbounded = candidate.parameters.withMaxGenerations(Integer.MAX_VALUE);
+            for (TestCase sample : samples) {
+                runs.add(() -> TaskAllocationGA.runGA(sample, roundOptions, unbounded));
+            }
+        }
+        List<Future<GAResult>> results;
+        try {
+            results = pool.invokeAll(runs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while tuning", e);
+        }
+
+        // Results are laid out candidate by candidate, samples in order
+        GAResult[] finished = new GAResult[results.size()];
+        for (int r = 0; r < finished.length; r++) {
+            finished[r] = await(results.get(r));
+            int s = r % samples.size();
+            bestKnown[s] = Math.min(bestKnown[s], finished[r].getBestChromosome().getFitness());
+        }
+
+        int r = 0;
+        for (Candidate candidate : candidates) {
+            candidate.hits = 0;
+            candidate.generationsToTarget = 0;
+            double gapSum = 0;
+            double evaluationSum = 0;
+            for (int s = 0; s < samples.size(); s++) {
+                GAResult result = finished[r++];
+                long bound = lowerBounds[s];
+                int fitness = result.getBestChromosome().getFitness();
+                if (fitness <= Math.max(bound * (1 + roundOptions.targetGap), bestKnown[s])) {
+                    // The best was found at lastImprovement, so the target was hit no later
+                    int generations = result.getLastImprovement();
+                    candidate.hits++;
+                    candidate.generationsToTarget = Math.max(candidate.generationsToTarget, generations);
+                    evaluationSum += (generations + 1.0) * candidate.parameters.getPopulationSize();
+                } else {
+                    evaluationSum += roundOptions.maxEvaluations;
+                }
+                gapSum += bound > 0 ? (double) (fitness - bound) / bound : 0;
+            }
+            candidate.meanGap = gapSum / samples.size();
+            candidate.meanEvaluations = evaluationSum / samples.size();
+        }
+    }
+
+    private static List<GAParameters> grid(List<TestCase> samples, GAOptions options) {
+        int[] sizes = new int[samples.size()];
+        for (int s = 0; s < sizes.length; s++) {
+            sizes[s] = samples.get(s).numTasks;
+        }
+        Arrays.sort(sizes);
+        int typicalTasks = Math.max(1, sizes[sizes.length / 2]);
+
+        // Insertion order breaks ties, so the command-line settings come first
+        Set<GAParameters> grid = new LinkedHashSet<>();
+        GAParameters defaults = options.defaultParameters();
+        grid.add(defaults);
+        for (int populationSize : POPULATION_SIZES) {
+            for (double crossoverRate : CROSSOVER_RATES) {
+                for (double mutations : MUTATIONS_PER_CHILD) {
+                    double mutationRate = Math.min(1, mutations / typicalTasks);
+                    grid.add(new GAParameters(populationSize, defaults.getMaxGenerations(), crossoverRate,
+                            mutationRate));
+                }
+            }
+        }
+        return new ArrayList<>(grid);
+    }
+
+    private static int survivors(int candidates) {
+        return (candidates + SURVIVOR_FRACTION - 1) / SURVIVOR_FRACTION;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    private static GAResult await(Future<GAResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while tuning", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
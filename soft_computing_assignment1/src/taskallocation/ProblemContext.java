@@ -0,0 +1,105 @@
+package taskallocation;
+
+// Immutable view of one test case. Every GA run owns its own context, so
+// several test cases can be solved at the same time without shared state.
+public final class ProblemContext {
+    private final int[] taskTimes;
+    // Off-heap home of every genome the run creates, or null for heap genomes
+    private final GenomeArena arena;
+    private final int maxTimeLimit;
+    private final int numCores;
+    private final long totalTime;
+    private final long lowerBound;
+    private final int longestTask;
+    private final int shortestTask;
+
+    public ProblemContext(TestCase testCase) {
+        this(testCase, 2);
+    }
+
+    public ProblemContext(TestCase testCase, int numCores) {
+        this(testCase.taskTimes, testCase.maxTimeLimit, numCores);
+    }
+
+    public ProblemContext(TestCase testCase, int numCores, GenomeArena arena) {
+        this(testCase.taskTimes, testCase.maxTimeLimit, numCores, arena);
+    }
+
+    public ProblemContext(int[] taskTimes, int maxTimeLimit, int numCores) {
+        this(taskTimes, maxTimeLimit, numCores, null);
+    }
+
+    public ProblemContext(int[] taskTimes, int maxTimeLimit, int numCores, GenomeArena arena) {
+        if (numCores < 2 || numCores > ByteGenome.MAX_CORES) {
+            throw new IllegalArgumentException("Number of cores must be between 2 and " + ByteGenome.MAX_CORES + ": " + numCores);
+        }
+        if (arena != null && (arena.getNumTasks() != taskTimes.length || arena.getNumCores() != numCores)) {
+            throw new IllegalArgumentException("Genome arena is for " + arena.getNumTasks() + " tasks on "
+                    + arena.getNumCores() + " cores, not " + taskTimes.length + " on " + numCores);
+        }
+        this.taskTimes = taskTimes.clone();
+        this.arena = arena;
+        this.maxTimeLimit = maxTimeLimit;
+        this.numCores = numCores;
+        long total = 0;
+        int longest = 0;
+        int shortest = this.taskTimes.length > 0 ? Integer.MAX_VALUE : 0;
+        for (int time : this.taskTimes) {
+            total += time;
+            longest = Math.max(longest, time);
+            shortest = Math.min(shortest, time);
+        }
+        this.totalTime = total;
+        this.longestTask = longest;
+        this.shortestTask = shortest;
+        this.lowerBound = Math.max((total + numCores - 1) / numCores, longest);
+    }
+
+    public int getNumTasks() {
+        return taskTimes.length;
+    }
+
+    public int getMaxTimeLimit() {
+        return maxTimeLimit;
+    }
+
+    public int getNumCores() {
+        return numCores;
+    }
+
+    // Bit-packed genome for two cores, one byte per gene otherwise; all genes
+    // are 0. Taken from the arena when the context has one.
+    public Genome newGenome() {
+        if (arena != null) {
+            return arena.allocate();
+        }
+        return numCores == 2 ? new BitGenome(taskTimes.length) : new ByteGenome(taskTimes.length, numCores);
+    }
+
+    public int getTaskExecutionTime(int index) {
+        return taskTimes[index];
+    }
+
+    // Shared with the load kernels, which must not modify it
+    int[] taskTimes() {
+        return taskTimes;
+    }
+
+    // Longest and shortest task times (0 when there are no tasks)
+    public int getLongestTask() {
+        return longestTask;
+    }
+
+    public int getShortestTask() {
+        return shortestTask;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    // No assignment can have a makespan below this
+    public long getLowerBound() {
+        return lowerBound;
+    }
+}
@@ -0,0 +1,50 @@
+package taskallocation;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Linear rank selection: the fittest of P chromosomes gets weight P and the
+// least fit weight 1, independent of the raw fitness values. Ranks are found
+// once per generation by sorting packed (fitness, index) longs, and each
+// selection is a binary search over the cumulative rank weights.
+public class RankSelection implements SelectionStrategy {
+    private Chromosome[] population;
+    private long[] order = new long[0];
+    private long[] cumulative = new long[0];
+
+    @Override
+    public void prepare(Chromosome[] population) {
+        this.population = population;
+        int size = population.length;
+        if (order.length != size) {
+            order = new long[size];
+            cumulative = new long[size];
+            // Rank r (0 = fittest) has weight size - r
+            long runningSum = 0;
+            for (int r = 0; r < size; r++) {
+                runningSum += size - r;
+                cumulative[r] = runningSum;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            order[i] = ((long) population[i].getFitness() << 32) | i;
+        }
+        Arrays.sort(order);
+    }
+
+    @Override
+    public Chromosome select(RandomGenerator rand) {
+        long point = rand.nextLong(cumulative[cumulative.length - 1]);
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > point) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return population[(int) order[low]];
+    }
+}
@@ -0,0 +1,133 @@
+package taskallocation;
+
+import java.util.Arrays;
+
+// Pulls an infeasible chromosome back under maxTimeLimit by moving tasks off
+// every overloaded core onto the currently lightest one. For an overload of
+// e units it first looks for the single cheapest task with time >= e that the
+// lightest core can still take; failing that it moves the cheapest tasks of
+// the overloaded core one by one until the overload is gone or nothing fits.
+// Tasks are visited in ascending time order, and every move is scored from
+// the cached core loads, so a repair never rescans the genome. Chromosomes it
+// cannot fix keep their graded penalty.
+//
+// The time order is sorted on the first repair that is actually needed, so
+// runs that stay feasible never pay for it. After that the operator is
+// read-only, and one instance serves all breeding threads.
+public class RepairOperator {
+    private final ProblemContext context;
+    private final int maxCandidates;
+    // Task indices sorted by execution time, and the times in that order
+    private volatile int[] tasksByTime;
+    private int[] sortedTimes;
+
+    public RepairOperator(ProblemContext context, int maxCandidates) {
+        this.context = context;
+        this.maxCandidates = maxCandidates;
+    }
+
+    private synchronized void sortTasks() {
+        if (tasksByTime != null) {
+            return;
+        }
+        int n = context.getNumTasks();
+        // Sorting packed (time, index) keys avoids boxing a comparator
+        long[] keys = new long[n];
+        for (int task = 0; task < n; task++) {
+            keys[task] = (long) context.getTaskExecutionTime(task) << 32 | task;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        sortedTimes = new int[n];
+        for (int k = 0; k < n; k++) {
+            order[k] = (int) keys[k];
+            sortedTimes[k] = (int) (keys[k] >>> 32);
+        }
+        // Published last: the volatile write makes sortedTimes visible too
+        tasksByTime = order;
+    }
+
+    // Returns true if the chromosome is feasible afterwards
+    public boolean repair(Chromosome chromosome) {
+        int limit = context.getMaxTimeLimit();
+        int numCores = context.getNumCores();
+        // Each pass clears one core for good: moves only ever target cores
+        // that stay within the limit
+        for (int pass = 0; pass < numCores; pass++) {
+            int heaviest = 0;
+            for (int core = 1; core < numCores; core++) {
+                if (chromosome.getLoad(core) > chromosome.getLoad(heaviest)) {
+                    heaviest = core;
+                }
+            }
+            if (chromosome.getLoad(heaviest) <= limit) {
+                return true;
+            }
+            if (tasksByTime == null) {
+                sortTasks();
+            }
+            if (!relieve(chromosome, heaviest, limit)) {
+                return false;
+            }
+        }
+        return chromosome.isFeasible();
+    }
+
+    private boolean relieve(Chromosome chromosome, int core, int limit) {
+        Genome genome = chromosome.getGenome();
+        long excess = chromosome.getLoad(core) - limit;
+        int target = lightest(chromosome, core);
+        long room = limit - chromosome.getLoad(target);
+
+        // One move, if some task on the core covers the whole excess
+        int scanned = 0;
+        for (int k = firstAtLeast(excess); k < sortedTimes.length && sortedTimes[k] <= room
+                && scanned < maxCandidates; k++, scanned++) {
+            if (genome.get(tasksByTime[k]) == core) {
+                chromosome.moveTask(tasksByTime[k], target);
+                return true;
+            }
+        }
+
+        // Otherwise the cheapest tasks, each to whichever core is lightest
+        scanned = 0;
+        for (int k = 0; k < sortedTimes.length && sortedTimes[k] <= room && scanned < maxCandidates;
+             k++, scanned++) {
+            if (sortedTimes[k] <= 0 || genome.get(tasksByTime[k]) != core) {
+                continue;
+            }
+            chromosome.moveTask(tasksByTime[k], target);
+            if (chromosome.getLoad(core) <= limit) {
+                return true;
+            }
+            target = lightest(chromosome, core);
+            room = limit - chromosome.getLoad(target);
+        }
+        return false;
+    }
+
+    private static int lightest(Chromosome chromosome, int except) {
+        int lightest = except == 0 ? 1 : 0;
+        for (int core = 0; core < chromosome.getGenome().numCores(); core++) {
+            if (core != except && chromosome.getLoad(core) < chromosome.getLoad(lightest)) {
+                lightest = core;
+            }
+        }
+        return lightest;
+    }
+
+    // Position of the first task in time order with time >= value
+    private int firstAtLeast(long value) {
+        int low = 0;
+        int high = sortedTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedTimes[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,365 @@
+package taskallocation;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Encodes results straight into a reused buffer that is drained to a channel
+// whenever it fills up; numbers are written as ASCII digits without building
+// Strings, and core totals come from the loads the chromosome already keeps.
+// Cores are numbered 1..numCores in every format, the text output's
+// chromosome line included (gene g is core numCores - g). The fitness of an
+// infeasible result is its penalty, the limit plus the total overflow of
+// its cores, not a makespan; the text format labels it and adds the
+// makespan. Formats:
+//   text    the command line's human-readable output
+//   csv     one row per test case after a header row
+//   jsonl   one JSON object per line
+//   binary  "GARS", int version, then per test case: int testCase,
+//           int numTasks, int numCores, int fitness, int generations,
+//           byte reason length, reason bytes, long load per core, and the
+//           assignment; with two cores one bit per task (set = core 2,
+//           least significant bit first), otherwise one byte per task
+//           holding core - 1. A job that fails ends with an error record
+//           instead: int 0, int message length, UTF-8 message. All
+//           big-endian.
+// A failed job's error is the last thing written, in the same format. The
+// owner of the channel closes it; flush() must be called before that.
+public abstract class ResultWriter implements Flushable {
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    private final WritableByteChannel channel;
+    protected final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
+
+    protected ResultWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static ResultWriter create(String format, WritableByteChannel channel) {
+        switch (format) {
+            case "text":
+                return new TextWriter(channel);
+            case "csv":
+                return new CsvWriter(channel);
+            case "jsonl":
+                return new JsonLinesWriter(channel);
+            case "binary":
+                return new BinaryWriter(channel);
+            default:
+                throw new IllegalArgumentException("Unknown output format: " + format);
+        }
+    }
+
+    // index is the test case's 0-based position in the input
+    public abstract void write(int index, GAResult result) throws IOException;
+
+    // Reports why the job stopped early; text and csv write an "Error:" line
+    public void writeError(String message) throws IOException {
+        ascii("Error: ");
+        utf8(message.replace('\n', ' '));
+        character('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    protected void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    protected void ascii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            ensure(1);
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    protected void utf8(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        for (int from = 0; from < bytes.length; from += buffer.capacity()) {
+            int length = Math.min(buffer.capacity(), bytes.length - from);
+            ensure(length);
+            buffer.put(bytes, from, length);
+        }
+    }
+
+    protected void number(long value) throws IOException {
+        ensure(20);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (length > 0) {
+            buffer.put(digits[--length]);
+        }
+    }
+
+    protected void character(char c) throws IOException {
+        ensure(1);
+        buffer.put((byte) c);
+    }
+
+    // Writes the core (1-based) of every task, separated by `separator`
+    protected void assignment(Genome genome, char separator) throws IOException {
+        int numCores = genome.numCores();
+        for (int i = 0; i < genome.length(); i++) {
+            if (i > 0) {
+                character(separator);
+            }
+            number(numCores - genome.get(i));
+        }
+    }
+
+    protected void coreLoads(Chromosome chromosome, char separator) throws IOException {
+        int numCores = chromosome.getGenome().numCores();
+        for (int core = 1; core <= numCores; core++) {
+            if (core > 1) {
+                character(separator);
+            }
+            number(chromosome.getLoad(numCores - core));
+        }
+    }
+
+    private static class TextWriter extends ResultWriter {
+        // Reused across results: task indices grouped by gene
+        private int[] bucketStart = new int[0];
+        private int[] tasksByGene = new int[0];
+
+        TextWriter(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        public void write(int index, GAResult result) throws IOException {
+            Chromosome best = result.getBestChromosome();
+            Genome genome = best.getGenome();
+            int numTasks = genome.length();
+            int numCores = genome.numCores();
+
+            ascii("Test Case ");
+            number(index + 1);
+            ascii(":\nBest fitness: ");
+            number(best.getFitness());
+            if (!best.isFeasible()) {
+                ascii(" (infeasible penalty, makespan ");
+                number(best.getMakespan());
+                character(')');
+            }
+            ascii("\nChromosome: ");
+            if (bucketStart.length < numCores + 1) {
+                bucketStart = new int[numCores + 1];
+            }
+            Arrays.fill(bucketStart, 0, numCores + 1, 0);
+            for (int i = 0; i < numTasks; i++) {
+                int gene = genome.get(i);
+                number(numCores - gene);
+                character(' ');
+                bucketStart[gene + 1]++;
+            }
+            character('\n');
+
+            for (int g = 0; g < numCores; g++) {
+                bucketStart[g + 1] += bucketStart[g];
+            }
+            if (tasksByGene.length < numTasks) {
+                tasksByGene = new int[numTasks];
+            }
+            for (int i = numTasks - 1; i >= 0; i--) {
+                tasksByGene[--bucketStart[genome.get(i) + 1]] = i;
+            }
+            // bucketStart[g + 1] now holds the start of gene g's bucket
+            for (int core = 1; core <= numCores; core++) {
+                int gene = numCores - core;
+                int end = gene + 2 <= numCores ? bucketStart[gene + 2] : numTasks;
+                ascii("Core ");
+                number(core);
+                ascii(" tasks: ");
+                for (int k = bucketStart[gene + 1]; k < end; k++) {
+                    number(tasksByGene[k]);
+                    character(' ');
+                }
+                ascii("\nCore ");
+                number(core);
+                ascii(" total time: ");
+                number(best.getLoad(gene));
+                character('\n');
+            }
+
+            ascii("Stopped by: ");
+            ascii(result.getStopReason());
+            ascii(" after ");
+            number(result.getGenerations());
+            ascii(" generations\n\n");
+        }
+    }
+
+    private static class CsvWriter extends ResultWriter {
+        private boolean headerWritten;
+
+        CsvWriter(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        public void write(int index, GAResult result) throws IOException {
+            if (!headerWritten) {
+                ascii("test_case,num_tasks,num_cores,fitness,feasible,stop_reason,generations,core_loads,assignment\n");
+                headerWritten = true;
+            }
+            Chromosome best = result.getBestChromosome();
+            Genome genome = best.getGenome();
+            number(index + 1);
+            character(',');
+            number(genome.length());
+            character(',');
+            number(genome.numCores());
+            character(',');
+            number(best.getFitness());
+            character(',');
+            ascii(best.isFeasible() ? "true" : "false");
+            character(',');
+            ascii(result.getStopReason());
+            character(',');
+            number(result.getGenerations());
+            character(',');
+            coreLoads(best, ' ');
+            character(',');
+            assignment(genome, ' ');
+            character('\n');
+        }
+    }
+
+    // Stop reasons are fixed identifiers, so no string escaping is needed
+    private static class JsonLinesWriter extends ResultWriter {
+        JsonLinesWriter(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        @Override
+        public void write(int index, GAResult result) throws IOException {
+            Chromosome best = result.getBestChromosome();
+            Genome genome = best.getGenome();
+            ascii("{\"testCase\":");
+            number(index + 1);
+            ascii(",\"numTasks\":");
+            number(genome.length());
+            ascii(",\"numCores\":");
+            number(genome.numCores());
+            ascii(",\"fitness\":");
+            number(best.getFitness());
+            ascii(",\"feasible\":");
+            ascii(best.isFeasible() ? "true" : "false");
+            ascii(",\"stopReason\":\"");
+            ascii(result.getStopReason());
+            ascii("\",\"generations\":");
+            number(result.getGenerations());
+            ascii(",\"coreLoads\":[");
+            coreLoads(best, ',');
+            ascii("],\"assignment\":[");
+            assignment(genome, ',');
+            ascii("]}\n");
+        }
+
+        @Override
+        public void writeError(String message) throws IOException {
+            ascii("{\"error\":\"");
+            for (int i = 0; i < message.length(); i++) {
+                char c = message.charAt(i);
+                if (c == '"' || c == '\\') {
+                    character('\\');
+                    character(c);
+                } else if (c < 0x20 || c > 0x7E) {
+                    ascii(String.format("\\u%04x", (int) c));
+                } else {
+                    character(c);
+                }
+            }
+            ascii("\"}\n");
+        }
+    }
+
+    private static class BinaryWriter extends ResultWriter {
+        private static final int MAGIC = 0x47415253;
+        // 2: error records
+        private static final int VERSION = 2;
+
+        private boolean headerWritten;
+
+        BinaryWriter(WritableByteChannel channel) {
+            super(channel);
+        }
+
+        private void header() throws IOException {
+            if (!headerWritten) {
+                ensure(8);
+                buffer.putInt(MAGIC).putInt(VERSION);
+                headerWritten = true;
+            }
+        }
+
+        @Override
+        public void write(int index, GAResult result) throws IOException {
+            header();
+            Chromosome best = result.getBestChromosome();
+            Genome genome = best.getGenome();
+            int numTasks = genome.length();
+            int numCores = genome.numCores();
+            String reason = result.getStopReason();
+
+            ensure(21 + reason.length() + 8 * numCores);
+            buffer.putInt(index + 1).putInt(numTasks).putInt(numCores)
+                    .putInt(best.getFitness()).putInt(result.getGenerations());
+            buffer.put((byte) reason.length());
+            for (int i = 0; i < reason.length(); i++) {
+                buffer.put((byte) reason.charAt(i));
+            }
+            for (int core = 1; core <= numCores; core++) {
+                buffer.putLong(best.getLoad(numCores - core));
+            }
+
+            if (numCores == 2) {
+                for (int base = 0; base < numTasks; base += 8) {
+                    int bits = 0;
+                    for (int i = base; i < Math.min(numTasks, base + 8); i++) {
+                        // Gene 0 runs on core 2
+                        if (genome.get(i) == 0) {
+                            bits |= 1 << (i - base);
+                        }
+                    }
+                    ensure(1);
+                    buffer.put((byte) bits);
+                }
+            } else {
+                for (int i = 0; i < numTasks; i++) {
+                    ensure(1);
+                    buffer.put((byte) (numCores - 1 - genome.get(i)));
+                }
+            }
+        }
+
+        @Override
+        public void writeError(String message) throws IOException {
+            header();
+            ensure(8);
+            buffer.putInt(0).putInt(message.getBytes(StandardCharsets.UTF_8).length);
+            utf8(message);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package taskallocation;
+
+import java.util.random.RandomGenerator;
+
+// Fitness-proportional selection for a minimisation problem. The wheel is
+// built once per generation as a prefix-sum array, and each spin is a binary
+// search over it, so a generation costs O(P log P) instead of O(P^2).
+//
+// A chromosome's slice is (worst feasible fitness - its fitness + 1), which
+// favours short makespans. Infeasible chromosomes get no slice unless the
+// whole population is infeasible; then the worst penalised fitness is the
+// reference instead, so the wheel favours the smallest overloads.
+public class RouletteWheelSelection implements SelectionStrategy {
+    private Chromosome[] population;
+    private double[] cumulative = new double[0];
+
+    @Override
+    public void prepare(Chromosome[] population) {
+        this.population = population;
+        if (cumulative.length != population.length) {
+            cumulative = new double[population.length];
+        }
+
+        long worstFeasible = Long.MIN_VALUE;
+        long worst = Long.MIN_VALUE;
+        for (Chromosome c : population) {
+            worst = Math.max(worst, c.getFitness());
+            if (c.isFeasible()) {
+                worstFeasible = Math.max(worstFeasible, c.getFitness());
+            }
+        }
+        long reference = worstFeasible != Long.MIN_VALUE ? worstFeasible : worst;
+
+        double runningSum = 0;
+        for (int i = 0; i < population.length; i++) {
+            int fitness = population[i].getFitness();
+            if (fitness <= reference) {
+                runningSum += (double) (reference - fitness + 1);
+            }
+            cumulative[i] = runningSum;
+        }
+    }
+
+    @Override
+    public Chromosome select(RandomGenerator rand) {
+        double point = rand.nextDouble() * cumulative[cumulative.length - 1];
+        // First slot whose running sum exceeds the point; empty slices are
+        // never chosen because their sum equals the previous one
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > point) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return population[low];
+    }
+}
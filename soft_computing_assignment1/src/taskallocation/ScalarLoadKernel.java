@@ -0,0 +1,62 @@
+package taskallocation;
+
+import java.nio.ByteBuffer;
+
+// Plain loops; single genomes use the genome's own computeLoads
+class ScalarLoadKernel extends LoadKernel {
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void computeLoads(Genome genome, ProblemContext context, long[] loads) {
+        genome.computeLoads(context, loads);
+    }
+
+    @Override
+    protected void accumulate(Genome genome, ProblemContext context, int from, int to, long[] loads) {
+        int[] times = context.taskTimes();
+        if (genome instanceof BitGenome) {
+            long[] words = ((BitGenome) genome).words();
+            long sum = 0;
+            // Bits past the genome's length are always clear
+            for (int w = from >>> 6; w < (to + 63) >>> 6; w++) {
+                long word = words[w];
+                int base = w << 6;
+                while (word != 0) {
+                    sum += times[base + Long.numberOfTrailingZeros(word)];
+                    word &= word - 1;
+                }
+            }
+            loads[1] += sum;
+        } else if (genome instanceof ByteGenome) {
+            byte[] genes = ((ByteGenome) genome).genes();
+            for (int i = from; i < to; i++) {
+                loads[genes[i] & 0xFF] += times[i];
+            }
+        } else if (genome instanceof OffHeapBitGenome) {
+            OffHeapBitGenome bits = (OffHeapBitGenome) genome;
+            long sum = 0;
+            for (int w = from >>> 6; w < (to + 63) >>> 6; w++) {
+                long word = bits.word(w);
+                int base = w << 6;
+                while (word != 0) {
+                    sum += times[base + Long.numberOfTrailingZeros(word)];
+                    word &= word - 1;
+                }
+            }
+            loads[1] += sum;
+        } else if (genome instanceof OffHeapByteGenome) {
+            ByteBuffer page = ((OffHeapByteGenome) genome).page();
+            int offset = ((OffHeapByteGenome) genome).offset();
+            for (int i = from; i < to; i++) {
+                loads[page.get(offset + i) & 0xFF] += times[i];
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                loads[genome.get(i)] += times[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package taskallocation;
+
+import java.util.random.RandomGenerator;
+
+// Parent selection for one generation. prepare() is called once per
+// generation; select() then only reads the prepared state, so it may be
+// called from several threads at once.
+public interface SelectionStrategy {
+    void prepare(Chromosome[] population);
+
+    Chromosome select(RandomGenerator rand);
+
+    // Accepts "roulette", "rank", "tournament" or "tournament:<size>"
+    static SelectionStrategy create(String name) {
+        String[] parts = name.split(":", 2);
+        switch (parts[0]) {
+            case "roulette":
+                return new RouletteWheelSelection();
+            case "rank":
+                return new RankSelection();
+            case "tournament":
+                return new TournamentSelection(parts.length > 1 ? Integer.parseInt(parts[1]) : 2);
+            default:
+                throw new IllegalArgumentException("Unknown selection strategy: " + name);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package taskallocation;
+
+// Live counters of one running test case, registered under
+// taskallocation:type=Solver when --jmx is given
+public interface SolverMonitorMXBean {
+    int getTestCase();
+
+    int getNumTasks();
+
+    int getNumCores();
+
+    long getLowerBound();
+
+    int getGeneration();
+
+    long getEvaluations();
+
+    int getBestFitness();
+
+    long getElapsedMillis();
+
+    double getEvaluationsPerSecond();
+
+    // Crossover children whose loads came from / missed the fitness cache,
+    // with --fitness-cache
+    long getCacheHits();
+
+    long getCacheMisses();
+
+    // Bred genomes found to repeat one of their generation, with --dedup
+    long getDuplicates();
+}
@@ -0,0 +1,227 @@
+package taskallocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Races several solvers on one test case, each on its own thread:
+//   - "heuristics": LPT, greedy list scheduling and Karmarkar-Karp, published
+//     as "lpt", "greedy" and "karmarkar-karp";
+//   - "exact": the two-core subset-sum DP, when its tables fit in what is
+//     left of the DP memory budget SubsetSumSolver shares across the process;
+//   - "local-search": iterated hill-climbing from the LPT schedule, kicking
+//     the current schedule with random moves whenever the climb gets stuck;
+//   - "ga": the usual GA loop with the run's parameters.
+// Every improvement is published to one shared best-so-far. The GA also takes
+// it in as a migrant whenever another solver is ahead.
+//
+// The race ends as soon as one of these happens:
+//   - a published makespan reaches the lower bound ("optimal-by-bound");
+//   - the exact DP finishes ("exact");
+//   - the GA stops by one of its own rules;
+//   - --deadline-ms passes ("deadline").
+// The other solvers are then cancelled cooperatively: each checks the shared
+// stop reason between steps (the DP before every task) and returns. The race
+// waits for all of them, so a solver in the middle of a step that cannot be
+// interrupted, such as building the GA's first generation, can hold the
+// result past --deadline-ms. The result's stop reason names the rule and
+// the solver that found the best schedule, e.g.
+// "optimal-by-bound/karmarkar-karp". Races depend on thread timing, so --seed
+// does not make them reproducible.
+//
+// Islands, checkpoints, telemetry and off-heap genomes are not used.
+public class SolverPortfolio {
+    // Hill-climb steps per local-search round, and random moves per kick
+    private static final int LOCAL_SEARCH_STEPS = 256;
+    private static final int KICK_MOVES = 3;
+
+    private final TestCase testCase;
+    private final GAOptions options;
+    private final ProblemContext context;
+    private final SplittableRandom rand;
+
+    // Best schedule so far, a private heap copy that is never modified
+    private volatile Chromosome best;
+    private String bestBy;
+    private volatile int bestFitness = Integer.MAX_VALUE;
+    private int bestGeneration;
+    // Null while the race is on
+    private volatile String stopReason;
+    private final CountDownLatch over = new CountDownLatch(1);
+    private volatile int gaGeneration;
+
+    private SolverPortfolio(TestCase testCase, GAOptions options) {
+        this.testCase = testCase;
+        this.options = options;
+        this.context = new ProblemContext(testCase, options.cores);
+        this.rand = options.randomProvider().forTestCase(testCase.index);
+    }
+
+    public static GAResult solve(TestCase testCase, GAOptions options) {
+        return new SolverPortfolio(testCase, options).race();
+    }
+
+    private GAResult race() {
+        List<Runnable> strategies = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        SplittableRandom searchRandom = rand.split();
+        SplittableRandom gaRandom = rand.split();
+        strategies.add(this::heuristics);
+        names.add("heuristics");
+        long exactBytes = SubsetSumSolver.tableBytes(context);
+        if (exactBytes >= 0 && SubsetSumSolver.tryReserveTables(exactBytes)) {
+            strategies.add(() -> exact(exactBytes));
+            names.add("exact");
+        }
+        strategies.add(() -> localSearch(searchRandom));
+        names.add("local-search");
+        strategies.add(() -> geneticAlgorithm(gaRandom));
+        names.add("ga");
+
+        Throwable[] failures = new Throwable[strategies.size()];
+        Thread[] threads = new Thread[strategies.size()];
+        for (int i = 0; i < strategies.size(); i++) {
+            int strategy = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    strategies.get(strategy).run();
+                } catch (RuntimeException | Error e) {
+                    failures[strategy] = e;
+                    stop("failed");
+                }
+            }, "portfolio-" + names.get(i));
+            thread.setDaemon(true);
+            thread.start();
+            threads[i] = thread;
+        }
+
+        try {
+            if (options.deadlineMillis <= 0) {
+                over.await();
+            } else if (!over.await(options.deadlineMillis, TimeUnit.MILLISECONDS)) {
+                stop("deadline");
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            stop("interrupted");
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while racing solvers", e);
+        }
+        for (Throwable failure : failures) {
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+
+        synchronized (this) {
+            return new GAResult(best, testCase, stopReason + "/" + bestBy, gaGeneration, bestGeneration);
+        }
+    }
+
+    // Publishes a schedule if it beats the best so far, and ends the race if
+    // it meets the lower bound
+    private void offer(Chromosome candidate, String strategy) {
+        if (candidate.getFitness() >= bestFitness) {
+            return;
+        }
+        synchronized (this) {
+            if (candidate.getFitness() >= bestFitness) {
+                return;
+            }
+            best = candidate.detach(context);
+            bestBy = strategy;
+            bestGeneration = gaGeneration;
+            bestFitness = candidate.getFitness();
+        }
+        if (candidate.getFitness() <= context.getLowerBound()) {
+            stop("optimal-by-bound");
+        }
+    }
+
+    // The first reason wins; later ones come from solvers that were already stopping
+    private synchronized void stop(String reason) {
+        if (stopReason == null) {
+            stopReason = reason;
+            over.countDown();
+        }
+    }
+
+    private boolean stopped() {
+        return stopReason != null;
+    }
+
+    private void heuristics() {
+        offer(new Chromosome(HeuristicSeeder.longestProcessingTimeFirst(context), context), "lpt");
+        if (!stopped()) {
+            offer(new Chromosome(HeuristicSeeder.greedy(context), context), "greedy");
+        }
+        if (!stopped()) {
+            offer(new Chromosome(HeuristicSeeder.karmarkarKarp(context), context), "karmarkar-karp");
+        }
+    }
+
+    private void exact(long reservedBytes) {
+        try {
+            Chromosome optimum = SubsetSumSolver.solve(context, this::stopped);
+            if (optimum != null) {
+                offer(optimum, "exact");
+                stop("exact");
+            }
+        } finally {
+            SubsetSumSolver.releaseTables(reservedBytes);
+        }
+    }
+
+    // Iterated local search: climb, kick the result with a few random moves,
+    // climb again, and keep the new schedule unless it is worse
+    private void localSearch(SplittableRandom rand) {
+        if (context.getNumTasks() < 2) {
+            return;
+        }
+        LocalSearch climb = new LocalSearch(LOCAL_SEARCH_STEPS, TaskAllocationGA.MEMETIC_CANDIDATES);
+        Chromosome current = new Chromosome(HeuristicSeeder.longestProcessingTimeFirst(context), context);
+        climb.improve(current, context, rand);
+        offer(current, "local-search");
+        Chromosome trial = new Chromosome(context.newGenome(), context);
+        while (!stopped()) {
+            trial.copyFrom(current);
+            for (int move = 0; move < KICK_MOVES; move++) {
+                trial.perturb(rand);
+            }
+            climb.improve(trial, context, rand);
+            if (trial.getFitness() <= current.getFitness()) {
+                current.copyFrom(trial);
+                offer(current, "local-search");
+            }
+        }
+    }
+
+    private void geneticAlgorithm(SplittableRandom rand) {
+        GAParameters parameters = options.parametersFor(testCase);
+        TerminationPolicy termination = TerminationPolicy.anyOf(List.of(
+                population -> stopReason, TaskAllocationGA.terminationPolicy(options, parameters)));
+        // The heuristics run on their own thread and reach the GA as migrants
+        GAOptions gaOptions = options.copy();
+        gaOptions.heuristicFraction = 0;
+        Population population = TaskAllocationGA.newPopulation(context, gaOptions, parameters, rand);
+        offer(population.getBestSoFar(), "ga");
+        String reason;
+        while ((reason = termination.check(population)) == null) {
+            population.evolve();
+            gaGeneration = population.getGeneration();
+            offer(population.getBestSoFar(), "ga");
+            Chromosome leader = best;
+            if (leader != null && leader.getFitness() < population.getBestSoFar().getFitness()) {
+                population.immigrate(leader);
+            }
+        }
+        stop(reason);
+    }
+}
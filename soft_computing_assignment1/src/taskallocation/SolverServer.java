@@ -0,0 +1,129 @@
+package taskallocation;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Resident solver, so repeated jobs skip JVM start-up and run on warmed-up
+// code. Each connection is one job: the client sends test cases in the
+// input.txt format (ending the last number with whitespace or by shutting
+// down its output) and reads back what the command line would write in the
+// server's --format, one test case at a time, as soon as each one is solved.
+// A job that fails ends with an error in the same format.
+//
+// Connections are handled on virtual threads where the JVM has them (Java 21
+// and later) and on platform threads otherwise; either way the GA itself runs
+// on one shared BatchSolver pool, so concurrent jobs cannot oversubscribe
+// the CPUs.
+public class SolverServer implements AutoCloseable {
+    private final ServerSocketChannel server;
+    private final SocketAddress address;
+    private final GAOptions options;
+    private final BatchSolver solver;
+    private final ThreadFactory jobThreads = jobThreadFactory();
+
+    public SolverServer(SocketAddress address, GAOptions options) throws IOException {
+        if (address instanceof UnixDomainSocketAddress) {
+            // A stale socket file from an earlier run would make bind fail
+            Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            this.server = ServerSocketChannel.open();
+        }
+        server.bind(address);
+        this.address = server.getLocalAddress();
+        this.options = options;
+        this.solver = new BatchSolver(options.threads);
+    }
+
+    // "unix:<path>" for a Unix-domain socket, otherwise a port on the
+    // loopback interface
+    public static SocketAddress parseAddress(String address) {
+        if (address.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(Path.of(address.substring("unix:".length())));
+        }
+        try {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected unix:<path> or a port number, got " + address);
+        }
+    }
+
+    public SocketAddress getAddress() {
+        return address;
+    }
+
+    // Accepts jobs until the server is closed
+    public void serve() throws IOException {
+        while (true) {
+            SocketChannel client;
+            try {
+                client = server.accept();
+            } catch (AsynchronousCloseException e) {
+                return;
+            }
+            jobThreads.newThread(() -> handle(client)).start();
+        }
+    }
+
+    private void handle(SocketChannel client) {
+        try (client) {
+            ResultWriter out = ResultWriter.create(options.format, client);
+            try {
+                TestCaseReader reader = new TestCaseReader(client);
+                solver.solveAll(() -> reader, testCase -> TaskAllocationGA.solve(testCase, options), (i, result) -> {
+                    try {
+                        out.write(i, result);
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                // Best effort: the client may already be gone
+                Throwable cause = e instanceof UncheckedIOException ? e.getCause() : e;
+                out.writeError(String.valueOf(cause.getMessage()));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // Client disconnected; nothing left to report to
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        solver.close();
+        if (address instanceof UnixDomainSocketAddress) {
+            Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+        }
+    }
+
+    // Thread.ofVirtual() is looked up reflectively so the code still builds
+    // for Java 17, where it does not exist (or is a preview API up to Java 20)
+    private static ThreadFactory jobThreadFactory() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "ga-job-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicLong jobs = new AtomicLong();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "ga-job-" + jobs.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package taskallocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import jdk.jfr.EventType;
+
+// Instrumentation for one run. evolve() wraps each generation in a
+// GenerationEvent; when no JFR recording enables it the only cost is the
+// isEnabled() check, and neither the event nor the per-thread allocation
+// counting it reports is set up. With jmx the run is also registered as an
+// MBean whose counters are refreshed once per generation. Islands of one
+// run share an instance, each reporting under its own index.
+public class SolverTelemetry implements SolverMonitorMXBean, AutoCloseable {
+    private static final AtomicLong RUNS = new AtomicLong();
+    private static final EventType GENERATION = EventType.getEventType(GenerationEvent.class);
+
+    private final int testCase;
+    private final int numTasks;
+    private final int numCores;
+    private final long lowerBound;
+    private final long startNanos = System.nanoTime();
+    private final ObjectName name;
+
+    // Per-island snapshots, guarded by this
+    private int[] generations = new int[1];
+    private long[] evaluations = new long[1];
+    private int[] bestFitness = {Integer.MAX_VALUE};
+    private long[] cacheHits = new long[1];
+    private long[] cacheMisses = new long[1];
+    private long[] duplicates = new long[1];
+
+    public SolverTelemetry(TestCase testCase, ProblemContext context, boolean jmx) {
+        this.testCase = testCase.index;
+        this.numTasks = context.getNumTasks();
+        this.numCores = context.getNumCores();
+        this.lowerBound = context.getLowerBound();
+        this.name = jmx ? register() : null;
+    }
+
+    public void evolve(Population population, int island) {
+        if (!GENERATION.isEnabled()) {
+            population.evolve();
+        } else {
+            GenerationEvent event = new GenerationEvent();
+            long allocatedBefore = allocatedBytes();
+            long evaluationsBefore = population.getEvaluations();
+            long nanosBefore = System.nanoTime();
+            event.begin();
+            population.evolve();
+            event.end();
+            if (event.shouldCommit()) {
+                long nanos = Math.max(1, System.nanoTime() - nanosBefore);
+                event.testCase = testCase;
+                event.island = island;
+                event.generation = population.getGeneration();
+                fillFitness(event, population.chromosomes);
+                event.evaluationsPerSecond = (population.getEvaluations() - evaluationsBefore) * 1e9 / nanos;
+                event.bytesAllocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+                event.commit();
+            }
+        }
+        if (name != null) {
+            update(population, island);
+        }
+    }
+
+    private static void fillFitness(GenerationEvent event, Chromosome[] chromosomes) {
+        int best = Integer.MAX_VALUE;
+        int worst = Integer.MIN_VALUE;
+        long sum = 0;
+        int feasible = 0;
+        for (Chromosome chromosome : chromosomes) {
+            int fitness = chromosome.getFitness();
+            if (chromosome.isFeasible()) {
+                best = Math.min(best, fitness);
+                worst = Math.max(worst, fitness);
+                sum += fitness;
+                feasible++;
+            }
+        }
+        event.bestFitness = best;
+        event.worstFitness = feasible > 0 ? worst : Integer.MAX_VALUE;
+        event.meanFitness = feasible > 0 ? (double) sum / feasible : Double.NaN;
+        event.infeasibleShare = chromosomes.length > 0 ? 1 - (double) feasible / chromosomes.length : 0;
+    }
+
+    private synchronized void update(Population population, int island) {
+        if (island >= generations.length) {
+            int length = island + 1;
+            int previousLength = generations.length;
+            generations = Arrays.copyOf(generations, length);
+            evaluations = Arrays.copyOf(evaluations, length);
+            bestFitness = Arrays.copyOf(bestFitness, length);
+            Arrays.fill(bestFitness, previousLength, length, Integer.MAX_VALUE);
+            cacheHits = Arrays.copyOf(cacheHits, length);
+            cacheMisses = Arrays.copyOf(cacheMisses, length);
+            duplicates = Arrays.copyOf(duplicates, length);
+        }
+        generations[island] = population.getGeneration();
+        evaluations[island] = population.getEvaluations();
+        bestFitness[island] = population.getBestSoFar().getFitness();
+        cacheHits[island] = population.getCacheHits();
+        cacheMisses[island] = population.getCacheMisses();
+        DuplicateFilter filter = population.getDuplicateFilter();
+        if (filter != null) {
+            duplicates[island] = filter.getDuplicates();
+        }
+    }
+
+    private ObjectName register() {
+        try {
+            ObjectName objectName = new ObjectName("taskallocation:type=Solver,case=" + (testCase + 1)
+                    + ",run=" + RUNS.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register solver MBean", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not unregister solver MBean", e);
+            }
+        }
+    }
+
+    // -1 when the JVM cannot count per-thread allocations
+    private static long allocatedBytes() {
+        return AllocationCounter.THREADS != null ? AllocationCounter.THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    // Turns allocation counting on the first time a recorded generation needs it
+    private static final class AllocationCounter {
+        static final com.sun.management.ThreadMXBean THREADS = create();
+
+        private static com.sun.management.ThreadMXBean create() {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+                if (counter.isThreadAllocatedMemorySupported()) {
+                    counter.setThreadAllocatedMemoryEnabled(true);
+                    return counter;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public int getTestCase() {
+        return testCase + 1;
+    }
+
+    @Override
+    public int getNumTasks() {
+        return numTasks;
+    }
+
+    @Override
+    public int getNumCores() {
+        return numCores;
+    }
+
+    @Override
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    @Override
+    public synchronized int getGeneration() {
+        return Arrays.stream(generations).max().orElse(0);
+    }
+
+    @Override
+    public synchronized long getEvaluations() {
+        return Arrays.stream(evaluations).sum();
+    }
+
+    @Override
+    public synchronized int getBestFitness() {
+        return Arrays.stream(bestFitness).min().orElse(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Override
+    public double getEvaluationsPerSecond() {
+        long nanos = Math.max(1, System.nanoTime() - startNanos);
+        return getEvaluations() * 1e9 / nanos;
+    }
+
+    @Override
+    public synchronized long getCacheHits() {
+        return Arrays.stream(cacheHits).sum();
+    }
+
+    @Override
+    public synchronized long getCacheMisses() {
+        return Arrays.stream(cacheMisses).sum();
+    }
+
+    @Override
+    public synchronized long getDuplicates() {
+        return Arrays.stream(duplicates).sum();
+    }
+}
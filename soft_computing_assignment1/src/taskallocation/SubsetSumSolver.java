@@ -0,0 +1,160 @@
+package taskallocation;
+
+import java.util.function.BooleanSupplier;
+
+// Exact solver for the two-core case. The makespan is minimised by the
+// reachable subset sum closest to half of the total, found with a bitset DP:
+// for every task, reachable |= reachable << time. Sums above half are never
+// kept. Each sum remembers the task that first reached it, which is enough to
+// rebuild the subset (the remainder was reachable before that task).
+// Runs in O(numTasks * total / 128) word operations and O(total) memory.
+public class SubsetSumSolver {
+    // Limits for the automatic dispatch; a forced exact run ignores them
+    private static final long MAX_HALF_SUM = 1L << 24;
+    private static final long MAX_WORD_OPERATIONS = 1L << 28;
+    // Heap shared by the tables of every DP running at once, whether
+    // dispatched, forced or raced in a portfolio
+    private static final long TABLE_BUDGET = Runtime.getRuntime().maxMemory() / 4;
+    private static final Object TABLE_LOCK = new Object();
+    private static long tableBytesFree = TABLE_BUDGET;
+
+    // True when the DP is cheap enough to use instead of the GA and its
+    // tables fit in the shared budget
+    public static boolean isTractable(ProblemContext context) {
+        if (context.getNumCores() != 2) {
+            return false;
+        }
+        long half = context.getTotalTime() / 2;
+        return half <= MAX_HALF_SUM && estimatedWordOperations(context) <= MAX_WORD_OPERATIONS
+                && tableBytes(context) <= TABLE_BUDGET;
+    }
+
+    public static long estimatedWordOperations(ProblemContext context) {
+        return (long) context.getNumTasks() * (context.getTotalTime() / 2 / 64 + 1);
+    }
+
+    public static Chromosome solve(ProblemContext context) {
+        return solve(context, () -> false);
+    }
+
+    // Like solve(), but first waits until the shared budget can hold the
+    // tables, so concurrent test cases never hold more than the budget.
+    // Tables larger than the whole budget (only a forced run has those)
+    // wait for all of it.
+    public static Chromosome solveWithinBudget(ProblemContext context) {
+        long bytes = Math.min(Math.max(tableBytes(context), 0), TABLE_BUDGET);
+        synchronized (TABLE_LOCK) {
+            while (tableBytesFree < bytes) {
+                try {
+                    TABLE_LOCK.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for DP memory", e);
+                }
+            }
+            tableBytesFree -= bytes;
+        }
+        try {
+            return solve(context);
+        } finally {
+            releaseTables(bytes);
+        }
+    }
+
+    // Takes bytes from the shared budget without waiting; false if that
+    // much is not free. The caller hands them back with releaseTables.
+    static boolean tryReserveTables(long bytes) {
+        synchronized (TABLE_LOCK) {
+            if (tableBytesFree < bytes) {
+                return false;
+            }
+            tableBytesFree -= bytes;
+            return true;
+        }
+    }
+
+    static long tableBudget() {
+        return TABLE_BUDGET;
+    }
+
+    static void releaseTables(long bytes) {
+        synchronized (TABLE_LOCK) {
+            tableBytesFree += bytes;
+            TABLE_LOCK.notifyAll();
+        }
+    }
+
+    // Heap the DP's tables take, or -1 when it cannot run at all
+    public static long tableBytes(ProblemContext context) {
+        long half = context.getTotalTime() / 2;
+        if (context.getNumCores() != 2 || half >= Integer.MAX_VALUE - 64) {
+            return -1;
+        }
+        return (half + 1) * Integer.BYTES + ((half >>> 6) + 1) * Long.BYTES;
+    }
+
+    // Checks `cancelled` before every task and returns null once it is true
+    public static Chromosome solve(ProblemContext context, BooleanSupplier cancelled) {
+        if (context.getNumCores() != 2) {
+            throw new IllegalArgumentException("Exact solver needs 2 cores, got " + context.getNumCores());
+        }
+        long half = context.getTotalTime() / 2;
+        if (half >= Integer.MAX_VALUE - 64) {
+            throw new IllegalArgumentException("Total task time too large for the exact solver: " + context.getTotalTime());
+        }
+
+        int numTasks = context.getNumTasks();
+        int capacity = (int) half;
+        long[] reachable = new long[(capacity >>> 6) + 1];
+        int[] reachedBy = new int[capacity + 1];
+        reachable[0] = 1L;
+        int best = 0;
+
+        for (int task = 0; task < numTasks && best < capacity; task++) {
+            if (cancelled.getAsBoolean()) {
+                return null;
+            }
+            int time = context.getTaskExecutionTime(task);
+            if (time == 0 || time > capacity) {
+                continue;
+            }
+            int wordShift = time >>> 6;
+            int bitShift = time & 63;
+            // High to low, so every word read still holds the previous row
+            for (int w = reachable.length - 1; w >= wordShift; w--) {
+                long shifted = reachable[w - wordShift] << bitShift;
+                if (bitShift != 0 && w - wordShift > 0) {
+                    shifted |= reachable[w - wordShift - 1] >>> (64 - bitShift);
+                }
+                long added = shifted & ~reachable[w];
+                if (w == reachable.length - 1) {
+                    added &= lastWordMask(capacity);
+                }
+                if (added == 0) {
+                    continue;
+                }
+                reachable[w] |= added;
+                do {
+                    int sum = (w << 6) + Long.numberOfTrailingZeros(added);
+                    reachedBy[sum] = task;
+                    best = Math.max(best, sum);
+                    added &= added - 1;
+                } while (added != 0);
+            }
+        }
+
+        // Tasks of the chosen subset go to core 1, the rest stay on core 0
+        Genome genome = context.newGenome();
+        for (int sum = best; sum > 0; ) {
+            int task = reachedBy[sum];
+            genome.set(task, 1);
+            sum -= context.getTaskExecutionTime(task);
+        }
+        return new Chromosome(genome, context);
+    }
+
+    private static long lastWordMask(int capacity) {
+        int bits = (capacity & 63) + 1;
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+}
@@ -0,0 +1,195 @@
+package taskallocation;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+public class TaskAllocationGA {
+    private static final int INPUT_QUEUE_CAPACITY = 64;
+    // Tasks scanned per hill-climb step before giving up on finding an improvement
+    static final int MEMETIC_CANDIDATES = 4096;
+    // Tasks scanned per overloaded core before a repair gives up
+    private static final int REPAIR_CANDIDATES = 4096;
+
+    public static void main(String[] args) throws IOException {
+        GAOptions options = GAOptions.parse(args);
+        LoadKernel.use(options.kernel);
+
+        if (options.tuneOutput != null) {
+            try (TestCaseReader testCases = new TestCaseReader(Path.of(options.inputFile))) {
+                TuningProfile profile = ParameterTuner.tune(testCases, options, System.out);
+                profile.save(options.tuneOutput);
+            }
+            return;
+        }
+
+        if (options.serve != null) {
+            try (SolverServer server = new SolverServer(SolverServer.parseAddress(options.serve), options)) {
+                System.out.println("Listening on " + server.getAddress());
+                server.serve();
+            }
+            return;
+        }
+
+        try (TestCasePipeline testCases = new TestCasePipeline(Path.of(options.inputFile), INPUT_QUEUE_CAPACITY);
+             BatchSolver solver = new BatchSolver(options.threads);
+             WritableByteChannel out = options.outputFile != null
+                     ? FileChannel.open(Path.of(options.outputFile), StandardOpenOption.WRITE,
+                             StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)
+                     : new FileOutputStream(FileDescriptor.out).getChannel()) {
+            ResultWriter writer = ResultWriter.create(options.format, out);
+            solver.solveAll(testCases, testCase -> solve(testCase, options), (i, result) -> {
+                try {
+                    writer.write(i, result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        }
+    }
+
+    // Picks the exact DP, the GA or a race of solvers for one test case
+    static GAResult solve(TestCase testCase, GAOptions options) {
+        if (options.solver.equals("portfolio")) {
+            return SolverPortfolio.solve(testCase, options);
+        }
+        if (!options.solver.equals("ga")) {
+            ProblemContext context = new ProblemContext(testCase, options.cores);
+            if (options.solver.equals("exact") || SubsetSumSolver.isTractable(context)) {
+                return new GAResult(SubsetSumSolver.solveWithinBudget(context), testCase, "exact", 0);
+            }
+        }
+        return runGA(testCase, options);
+    }
+
+    static GAResult runGA(TestCase testCase, GAOptions options) {
+        return runGA(testCase, options, options.parametersFor(testCase));
+    }
+
+    static GAResult runGA(TestCase testCase, GAOptions options, GAParameters parameters) {
+        // Each run gets its own immutable context, so runs can execute concurrently
+        if (!options.offHeap) {
+            return runGA(testCase, options, parameters, new ProblemContext(testCase, options.cores));
+        }
+        // Both generations, the elite and the spare of every island, plus a
+        // few heuristic and migrant genomes that go to a later page
+        int genomes = options.islands * (2 * parameters.getPopulationSize() + 2);
+        try (GenomeArena arena = new GenomeArena(testCase.numTasks, options.cores, genomes, options.offHeapDir)) {
+            GAResult result = runGA(testCase, options, parameters,
+                    new ProblemContext(testCase, options.cores, arena));
+            // The arena's memory goes with it, so the result keeps a heap copy
+            Chromosome best = result.getBestChromosome().detach(new ProblemContext(testCase, options.cores));
+            return new GAResult(best, testCase, result.getStopReason(), result.getGenerations(),
+                    result.getLastImprovement());
+        }
+    }
+
+    private static GAResult runGA(TestCase testCase, GAOptions options, GAParameters parameters,
+                                  ProblemContext context) {
+        SplittableRandom rand = options.randomProvider().forTestCase(testCase.index);
+
+        TerminationPolicy termination = terminationPolicy(options, parameters);
+
+        try (SolverTelemetry telemetry = new SolverTelemetry(testCase, context, options.jmx)) {
+            if (options.islands > 1) {
+                Population[] islands = new Population[options.islands];
+                for (int i = 0; i < islands.length; i++) {
+                    islands[i] = newPopulation(context, options, parameters, rand.split());
+                }
+                IslandModel model = new IslandModel(islands, context, options.migrationInterval,
+                        options.randomTopology, rand);
+                Chromosome best = model.run(termination, telemetry);
+                return new GAResult(best, testCase, model.getStopReason(), model.getGenerations(),
+                        model.getLastImprovement());
+            }
+
+            Population population = newPopulation(context, options, parameters, rand);
+
+            try (Checkpointer checkpointer = newCheckpointer(testCase, context, population, options)) {
+                String stopReason;
+                while ((stopReason = termination.check(population)) == null) {
+                    telemetry.evolve(population, 0);
+                    if (checkpointer != null) {
+                        checkpointer.afterGeneration(population);
+                    }
+                }
+
+                return new GAResult(population.getBestSoFar(), testCase, stopReason, population.getGeneration(),
+                        population.getLastImprovement());
+            }
+        }
+    }
+
+    // Null unless checkpoints are enabled; with --resume the population is
+    // first restored from the test case's last checkpoint, if there is one
+    private static Checkpointer newCheckpointer(TestCase testCase, ProblemContext context, Population population,
+                                                GAOptions options) {
+        if (options.checkpointDir == null) {
+            return null;
+        }
+        Path file = options.checkpointDir.resolve("case-" + (testCase.index + 1) + ".ckpt");
+        try {
+            Files.createDirectories(options.checkpointDir);
+            if (options.resume) {
+                Checkpointer.resume(file, population, context);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Checkpointer(file, options.checkpointInterval, population, context);
+    }
+
+    static TerminationPolicy terminationPolicy(GAOptions options, GAParameters parameters) {
+        List<TerminationPolicy> rules = new ArrayList<>();
+        rules.add(TerminationPolicy.optimalByBound());
+        if (options.targetGap > 0) {
+            rules.add(TerminationPolicy.targetGap(options.targetGap));
+        }
+        rules.add(TerminationPolicy.maxGenerations(parameters.getMaxGenerations()));
+        if (options.stagnationWindow > 0) {
+            rules.add(TerminationPolicy.stagnation(options.stagnationWindow));
+        }
+        if (options.deadlineMillis > 0) {
+            rules.add(TerminationPolicy.deadline(options.deadlineMillis));
+        }
+        if (options.maxEvaluations > 0) {
+            rules.add(TerminationPolicy.evaluationBudget(options.maxEvaluations));
+        }
+        return TerminationPolicy.anyOf(rules);
+    }
+
+    static Population newPopulation(ProblemContext context, GAOptions options, GAParameters parameters,
+                                    SplittableRandom rand) {
+        Population population = new Population(parameters.getPopulationSize(), context,
+                parameters.getCrossoverRate(), parameters.getMutationRate(),
+                SelectionStrategy.create(options.selection), rand.split(), options.generationPool());
+        HeuristicSeeder.seed(population, context, options.heuristicFraction, rand);
+        configure(population, context, options, rand);
+        return population;
+    }
+
+    // Optional operators of a new population: repair, memetic step, fitness
+    // cache, deduplication. The reseed interval is set whether or not
+    // checkpoints are written, so they never change a seeded run.
+    static void configure(Population population, ProblemContext context, GAOptions options, SplittableRandom rand) {
+        population.setReseedInterval(options.checkpointInterval);
+        if (options.constraints.equals("repair")) {
+            population.setRepair(new RepairOperator(context, REPAIR_CANDIDATES));
+        }
+        if (options.memetic > 0) {
+            population.setLocalSearch(new LocalSearch(options.memeticSteps, MEMETIC_CANDIDATES), options.memetic,
+                    rand.split());
+        }
+        if (options.fitnessCache > 0) {
+            population.setFitnessCache(options.fitnessCache);
+        }
+        if (options.dedup) {
+            population.setDeduplication(rand.split());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package taskallocation;
+
+import java.util.List;
+
+// Decides when a population should stop evolving. check() returns the name
+// of the rule that fired, or null to keep going. Policies keep no state of
+// their own; everything they need is tracked by the Population, so one
+// policy can be shared by every island of a run.
+public interface TerminationPolicy {
+    String check(Population population);
+
+    static TerminationPolicy maxGenerations(int limit) {
+        return population -> population.getGeneration() >= limit ? "max-generations" : null;
+    }
+
+    // The best makespan cannot beat max(ceil(total / cores), longest task)
+    static TerminationPolicy optimalByBound() {
+        return population -> population.getBestSoFar().getFitness() <= population.getLowerBound()
+                ? "optimal-by-bound" : null;
+    }
+
+    // Good enough: the best makespan is within `gap` (a fraction) of the bound
+    static TerminationPolicy targetGap(double gap) {
+        return population -> population.getBestSoFar().getFitness() <= population.getLowerBound() * (1 + gap)
+                ? "target-gap" : null;
+    }
+
+    static TerminationPolicy stagnation(int window) {
+        return population -> population.getGeneration() - population.getLastImprovement() >= window
+                ? "stagnation" : null;
+    }
+
+    static TerminationPolicy deadline(long millis) {
+        long nanos = millis * 1_000_000L;
+        return population -> population.getElapsedNanos() >= nanos ? "deadline" : null;
+    }
+
+    static TerminationPolicy evaluationBudget(long evaluations) {
+        return population -> population.getEvaluations() >= evaluations ? "evaluation-budget" : null;
+    }
+
+    static TerminationPolicy anyOf(List<TerminationPolicy> policies) {
+        TerminationPolicy[] rules = policies.toArray(new TerminationPolicy[0]);
+        return population -> {
+            for (TerminationPolicy rule : rules) {
+                String reason = rule.check(population);
+                if (reason != null) {
+                    return reason;
+                }
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package taskallocation;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Parses the input on a background thread and hands test cases to the
+// solvers through a bounded queue, so parsing overlaps with solving and at
+// most `capacity` parsed test cases wait in memory at any time.
+public class TestCasePipeline implements Iterable<TestCase>, AutoCloseable {
+    private static final TestCase END = new TestCase(0, 0, new int[0]);
+
+    private final BlockingQueue<TestCase> queue;
+    private final Thread parser;
+    private volatile Throwable failure;
+
+    public TestCasePipeline(Path input, int capacity) throws IOException {
+        TestCaseReader reader = new TestCaseReader(input);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.parser = new Thread(() -> parse(reader), "input-parser");
+        parser.setDaemon(true);
+        parser.start();
+    }
+
+    private void parse(TestCaseReader reader) {
+        try (reader) {
+            while (reader.hasNext()) {
+                queue.put(reader.next());
+            }
+        } catch (InterruptedException e) {
+            return;
+        } catch (IOException e) {
+            failure = new UncheckedIOException(e);
+        } catch (RuntimeException | Error e) {
+            // Even an OutOfMemoryError must reach the consumer, which
+            // would otherwise wait for the end marker forever
+            failure = e;
+        }
+        try {
+            queue.put(END);
+        } catch (InterruptedException ignored) {
+            // close() interrupted us; nobody is waiting for the end marker
+        }
+    }
+
+    // Single-use: test cases are consumed as they are iterated
+    @Override
+    public Iterator<TestCase> iterator() {
+        return new Iterator<>() {
+            private TestCase next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for input", e);
+                    }
+                    if (next == END) {
+                        queue.offer(END);
+                    }
+                }
+                if (next == END && failure != null) {
+                    if (failure instanceof Error) {
+                        throw (Error) failure;
+                    }
+                    throw (RuntimeException) failure;
+                }
+                return next != END;
+            }
+
+            @Override
+            public TestCase next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                TestCase testCase = next;
+                next = null;
+                return testCase;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        parser.interrupt();
+    }
+}
@@ -0,0 +1,164 @@
+package taskallocation;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.util.*;
+
+// Reads test cases straight out of a memory-mapped input file. The file is
+// mapped in fixed-size windows so inputs larger than 2 GB work, and integers
+// are parsed from raw bytes without creating any Strings.
+//
+// Input format: the number of test cases, then for each test case the max
+// time limit, the number of tasks and one execution time per task, all
+// separated by whitespace.
+//
+// The same format can also be read from a socket or pipe, in which case the
+// bytes come through a reused buffer instead of a mapping.
+public class TestCaseReader implements Iterator<TestCase>, Closeable {
+    private static final long WINDOW_SIZE = 64L << 20;
+    private static final int STREAM_BUFFER_SIZE = 64 << 10;
+
+    private final FileChannel file;
+    private final long fileSize;
+    private final ReadableByteChannel stream;
+    private ByteBuffer window;
+    private long windowStart;
+    private final int testCaseCount;
+    private int testCasesRead;
+
+    public TestCaseReader(Path path) throws IOException {
+        this.file = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = file.size();
+        this.stream = null;
+        mapWindow(0);
+        this.testCaseCount = nextInt();
+    }
+
+    // Blocks until the test case count has arrived
+    public TestCaseReader(ReadableByteChannel stream) throws IOException {
+        this.file = null;
+        this.fileSize = -1;
+        this.stream = stream;
+        this.window = ByteBuffer.allocate(STREAM_BUFFER_SIZE).flip();
+        this.testCaseCount = nextInt();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return testCasesRead < testCaseCount;
+    }
+
+    @Override
+    public TestCase next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            int maxTimeLimit = nextInt();
+            int numTasks = nextInt();
+            checkTaskCount(numTasks);
+            int[] taskTimes = new int[numTasks];
+            for (int i = 0; i < numTasks; i++) {
+                taskTimes[i] = nextInt();
+            }
+            TestCase testCase = new TestCase(numTasks, maxTimeLimit, taskTimes);
+            testCase.index = testCasesRead++;
+            return testCase;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Catches a corrupt task count before it is used as an array size. A
+    // mapped file must still hold at least one digit and one separator per
+    // task; a stream's length is unknown, so only the sign is checked there.
+    private void checkTaskCount(int numTasks) throws IOException {
+        if (numTasks < 0) {
+            throw new IOException("Negative task count in test case " + testCasesRead + ": " + numTasks);
+        }
+        if (file != null) {
+            long remaining = fileSize - (windowStart + window.position());
+            if (numTasks > (remaining + 1) / 2) {
+                throw new IOException("Test case " + testCasesRead + " declares " + numTasks
+                        + " tasks but only " + remaining + " bytes of input remain");
+            }
+        }
+    }
+
+    private int nextInt() throws IOException {
+        int b = nextByte();
+        while (isWhitespace(b)) {
+            b = nextByte();
+        }
+        boolean negative = b == '-';
+        if (negative) {
+            b = nextByte();
+        }
+        if (b < '0' || b > '9') {
+            throw new IOException(b < 0
+                    ? "Unexpected end of input after " + testCasesRead + " test cases"
+                    : "Unexpected character '" + (char) b + "' at byte " + (windowStart + window.position() - 1));
+        }
+        long value = 0;
+        while (b >= '0' && b <= '9') {
+            value = value * 10 + (b - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Number too large at byte " + (windowStart + window.position() - 1));
+            }
+            b = nextByte();
+        }
+        if (b >= 0 && !isWhitespace(b)) {
+            throw new IOException("Unexpected character '" + (char) b + "' at byte " + (windowStart + window.position() - 1));
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private int nextByte() throws IOException {
+        if (!window.hasRemaining()) {
+            if (stream != null) {
+                if (!fillWindow()) {
+                    return -1;
+                }
+            } else {
+                long nextStart = windowStart + window.capacity();
+                if (nextStart >= fileSize) {
+                    return -1;
+                }
+                mapWindow(nextStart);
+            }
+        }
+        return window.get();
+    }
+
+    private boolean fillWindow() throws IOException {
+        windowStart += window.limit();
+        window.clear();
+        int read;
+        do {
+            read = stream.read(window);
+        } while (read == 0);
+        window.flip();
+        return read > 0;
+    }
+
+    private void mapWindow(long start) throws IOException {
+        windowStart = start;
+        window = file.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, fileSize - start));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            file.close();
+        } else {
+            stream.close();
+        }
+    }
+}
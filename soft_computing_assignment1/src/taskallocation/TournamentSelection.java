@@ -0,0 +1,34 @@
+package taskallocation;
+
+import java.util.random.RandomGenerator;
+
+// Picks `size` chromosomes uniformly at random and returns the fittest. O(size)
+// per selection and no per-generation preparation.
+public class TournamentSelection implements SelectionStrategy {
+    private final int size;
+    private Chromosome[] population;
+
+    public TournamentSelection(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Tournament size must be positive: " + size);
+        }
+        this.size = size;
+    }
+
+    @Override
+    public void prepare(Chromosome[] population) {
+        this.population = population;
+    }
+
+    @Override
+    public Chromosome select(RandomGenerator rand) {
+        Chromosome winner = population[rand.nextInt(population.length)];
+        for (int i = 1; i < size; i++) {
+            Chromosome challenger = population[rand.nextInt(population.length)];
+            if (challenger.getFitness() < winner.getFitness()) {
+                winner = challenger;
+            }
+        }
+        return winner;
+    }
+}
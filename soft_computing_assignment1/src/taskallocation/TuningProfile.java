@@ -0,0 +1,76 @@
+package taskallocation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+// GA parameters per task-count bucket, written by --tune and loaded with
+// --profile. A bucket covers test cases with more tasks than the previous
+// bucket's bound and at most its own; test cases above the largest bound run
+// with the command-line settings.
+//
+// File format, one bucket per line, '#' starts a comment:
+//   <max tasks or *> <population> <generations> <crossover rate> <mutation rate>
+public class TuningProfile {
+    // Upper bounds of the buckets the tuner fills
+    public static final int[] BUCKET_BOUNDS = {10, 100, 1_000, 10_000, 100_000, Integer.MAX_VALUE};
+
+    private final TreeMap<Integer, GAParameters> buckets = new TreeMap<>();
+
+    public void put(int maxTasks, GAParameters parameters) {
+        buckets.put(maxTasks, parameters);
+    }
+
+    // Parameters for a test case of this size, or null if no bucket covers it
+    public GAParameters lookup(int numTasks) {
+        Integer bound = buckets.ceilingKey(numTasks);
+        return bound != null ? buckets.get(bound) : null;
+    }
+
+    public static int bucketOf(int numTasks) {
+        for (int bound : BUCKET_BOUNDS) {
+            if (numTasks <= bound) {
+                return bound;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    public static TuningProfile load(Path file) throws IOException {
+        TuningProfile profile = new TuningProfile();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+            String[] fields = content.split("\\s+");
+            if (fields.length != 5) {
+                throw new IOException(file + ":" + lineNumber + ": expected 5 fields, got " + fields.length);
+            }
+            try {
+                int bound = fields[0].equals("*") ? Integer.MAX_VALUE : Integer.parseInt(fields[0]);
+                profile.put(bound, new GAParameters(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                        Double.parseDouble(fields[3]), Double.parseDouble(fields[4])));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return profile;
+    }
+
+    public void save(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# max-tasks population generations crossover-rate mutation-rate");
+        buckets.forEach((bound, parameters) -> lines.add((bound == Integer.MAX_VALUE ? "*" : bound.toString())
+                + " " + parameters.getPopulationSize() + " " + parameters.getMaxGenerations()
+                + " " + parameters.getCrossoverRate() + " " + parameters.getMutationRate()));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,111 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class BitGenomeTest {
+    private static final int[] LENGTHS = {1, 5, 63, 64, 65, 127, 128, 129, 200};
+
+    @Test
+    void spliceTakesTheHeadBeforeThePointAndTheTailAfterIt() {
+        SplittableRandom rand = new SplittableRandom(2);
+        for (int length : LENGTHS) {
+            BitGenome head = randomGenome(length, rand);
+            BitGenome tail = randomGenome(length, rand);
+            for (int point = 0; point <= length; point++) {
+                BitGenome child = new BitGenome(length);
+
+                child.splice(head, tail, point);
+
+                int[] expected = new int[length];
+                for (int i = 0; i < length; i++) {
+                    expected[i] = i < point ? head.get(i) : tail.get(i);
+                }
+                assertArrayEquals(expected, genes(child), "length " + length + ", point " + point);
+            }
+        }
+    }
+
+    @Test
+    void randomGenomesKeepTheTailWordClear() {
+        SplittableRandom rand = new SplittableRandom(3);
+        for (int length : LENGTHS) {
+            BitGenome genome = randomGenome(length, rand);
+
+            int ones = 0;
+            for (int i = 0; i < length; i++) {
+                ones += genome.get(i);
+            }
+            assertEquals(ones, genome.cardinality(), "length " + length);
+            assertEquals(genome, new BitGenome(genes(genome)));
+        }
+    }
+
+    @Test
+    void loadsMatchTheGeneByGeneSum() {
+        SplittableRandom rand = new SplittableRandom(4);
+        for (int length : LENGTHS) {
+            int[] times = randomTimes(length, rand);
+            ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, 2);
+            // Mostly-zero and mostly-one genomes take the two sides of computeLoads
+            for (double ones : new double[]{0.1, 0.5, 0.9}) {
+                BitGenome genome = new BitGenome(length);
+                for (int i = 0; i < length; i++) {
+                    genome.set(i, rand.nextDouble() < ones ? 1 : 0);
+                }
+                long[] loads = new long[2];
+
+                genome.computeLoads(context, loads);
+
+                assertArrayEquals(referenceLoads(genome, times), loads, "length " + length);
+            }
+        }
+    }
+
+    @Test
+    void resizingDropsOrZeroesTheGenesPastTheOldLength() {
+        SplittableRandom rand = new SplittableRandom(5);
+        BitGenome genome = randomGenome(130, rand);
+
+        BitGenome shorter = genome.resized(70);
+        BitGenome longer = shorter.resized(130);
+
+        for (int i = 0; i < 130; i++) {
+            assertEquals(i < 70 ? genome.get(i) : 0, longer.get(i), "gene " + i);
+        }
+        assertEquals(shorter.cardinality(), longer.cardinality());
+    }
+
+    static BitGenome randomGenome(int length, SplittableRandom rand) {
+        BitGenome genome = new BitGenome(length);
+        genome.randomize(rand);
+        return genome;
+    }
+
+    static int[] randomTimes(int length, SplittableRandom rand) {
+        int[] times = new int[length];
+        for (int i = 0; i < length; i++) {
+            times[i] = 1 + rand.nextInt(1000);
+        }
+        return times;
+    }
+
+    static int[] genes(Genome genome) {
+        int[] genes = new int[genome.length()];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = genome.get(i);
+        }
+        return genes;
+    }
+
+    static long[] referenceLoads(Genome genome, int[] times) {
+        long[] loads = new long[genome.numCores()];
+        for (int i = 0; i < times.length; i++) {
+            loads[genome.get(i)] += times[i];
+        }
+        return loads;
+    }
+}
@@ -0,0 +1,125 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckpointerTest {
+    private static final int INTERVAL = 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resumedRunContinuesExactlyAsTheOriginal() throws IOException {
+        for (int cores : new int[]{2, 5}) {
+            GAOptions options = GAOptions.parse(new String[]{"--seed", "7", "--cores", String.valueOf(cores),
+                    "--population", "30", "--heuristic-fraction", "0", "--dedup", "--memetic", "2",
+                    "--checkpoint-interval", String.valueOf(INTERVAL)});
+            ProblemContext context = new ProblemContext(randomTimes(300, 3), Integer.MAX_VALUE, cores);
+            Path file = directory.resolve("case-" + cores + ".ckpt");
+
+            Population original = newPopulation(context, options);
+            try (Checkpointer checkpointer = new Checkpointer(file, INTERVAL, original, context)) {
+                for (int g = 0; g < INTERVAL; g++) {
+                    original.evolve();
+                    checkpointer.afterGeneration(original);
+                }
+            }
+            Population resumed = newPopulation(context, options);
+            assertTrue(Checkpointer.resume(file, resumed, context));
+
+            for (int g = 0; g < 30; g++) {
+                original.evolve();
+                resumed.evolve();
+            }
+            assertEquals(original.getGeneration(), resumed.getGeneration());
+            assertEquals(original.getEvaluations(), resumed.getEvaluations());
+            assertEquals(original.getLastImprovement(), resumed.getLastImprovement());
+            assertArrayEquals(genes(original.getBestSoFar()), genes(resumed.getBestSoFar()));
+            for (int i = 0; i < original.size(); i++) {
+                assertArrayEquals(genes(original.chromosomes[i]), genes(resumed.chromosomes[i]));
+                assertEquals(original.chromosomes[i].getFitness(), resumed.chromosomes[i].getFitness());
+            }
+        }
+    }
+
+    @Test
+    void rejectsACheckpointOfAnotherProblem() throws IOException {
+        GAOptions options = GAOptions.parse(new String[]{"--seed", "7", "--population", "10",
+                "--checkpoint-interval", "1"});
+        ProblemContext context = new ProblemContext(randomTimes(50, 4), Integer.MAX_VALUE, 2);
+        Path file = directory.resolve("case-1.ckpt");
+        Population population = newPopulation(context, options);
+        try (Checkpointer checkpointer = new Checkpointer(file, 1, population, context)) {
+            population.evolve();
+            checkpointer.afterGeneration(population);
+        }
+
+        ProblemContext other = new ProblemContext(randomTimes(50, 5), Integer.MAX_VALUE, 2);
+        assertThrows(IOException.class, () -> Checkpointer.resume(file, newPopulation(other, options), other));
+        assertFalse(Checkpointer.resume(directory.resolve("missing.ckpt"), population, context));
+    }
+
+    @Test
+    void checkpointsDoNotChangeSeededResults() {
+        TestCase testCase = new TestCase(300, Integer.MAX_VALUE, randomTimes(300, 6));
+        String[] args = {"--seed", "2", "--cores", "3", "--solver", "ga", "--heuristic-fraction", "0",
+                "--generations", "3", "--checkpoint-interval", "1"};
+        String[] checkpointed = Arrays.copyOf(args, args.length + 2);
+        checkpointed[args.length] = "--checkpoint-dir";
+        checkpointed[args.length + 1] = directory.toString();
+
+        Chromosome plain = TaskAllocationGA.solve(testCase, GAOptions.parse(args)).getBestChromosome();
+        Chromosome saved = TaskAllocationGA.solve(testCase, GAOptions.parse(checkpointed)).getBestChromosome();
+
+        assertTrue(Files.exists(directory.resolve("case-1.ckpt")));
+        assertEquals(plain.getFitness(), saved.getFitness());
+        assertArrayEquals(genes(plain), genes(saved));
+    }
+
+    @Test
+    void rejectsIntervalsOffThePopulationsReseeds() {
+        GAOptions options = GAOptions.parse(new String[]{"--seed", "7", "--population", "10",
+                "--checkpoint-interval", "4"});
+        ProblemContext context = new ProblemContext(randomTimes(50, 4), Integer.MAX_VALUE, 2);
+        Population population = newPopulation(context, options);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new Checkpointer(directory.resolve("case-1.ckpt"), 6, population, context));
+        new Checkpointer(directory.resolve("case-1.ckpt"), 8, population, context).close();
+    }
+
+    private static Population newPopulation(ProblemContext context, GAOptions options) {
+        return TaskAllocationGA.newPopulation(context, options, options.defaultParameters(),
+                options.randomProvider().forTestCase(0));
+    }
+
+    private static int[] randomTimes(int n, long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        int[] times = new int[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = 1 + rand.nextInt(1000);
+        }
+        return times;
+    }
+
+    private static int[] genes(Chromosome chromosome) {
+        Genome genome = chromosome.getGenome();
+        int[] genes = new int[genome.length()];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = genome.get(i);
+        }
+        return genes;
+    }
+}
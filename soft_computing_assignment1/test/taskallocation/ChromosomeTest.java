@@ -0,0 +1,85 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ChromosomeTest {
+    @Test
+    void crossoverKeepsTheLoadsOfAFullEvaluation() {
+        SplittableRandom rand = new SplittableRandom(6);
+        for (int cores : new int[]{2, 5}) {
+            for (int length : new int[]{1, 63, 64, 65, 130}) {
+                int[] times = BitGenomeTest.randomTimes(length, rand);
+                ProblemContext context = new ProblemContext(times, 1000 * length / cores, cores);
+                Chromosome parent1 = new Chromosome(context, rand);
+                Chromosome parent2 = new Chromosome(context, rand);
+                Chromosome child = new Chromosome(context, rand);
+                for (int point = 0; point <= length; point++) {
+                    child.onePointCrossover(parent1, parent2, point);
+
+                    assertMatchesFullEvaluation(child, context, cores + " cores, length " + length + ", point " + point);
+                }
+            }
+        }
+    }
+
+    @Test
+    void mutationAndMovesKeepTheLoadsOfAFullEvaluation() {
+        SplittableRandom rand = new SplittableRandom(7);
+        for (int cores : new int[]{2, 3, 8}) {
+            int[] times = BitGenomeTest.randomTimes(300, rand);
+            ProblemContext context = new ProblemContext(times, 150 * 300 / cores, cores);
+            Chromosome chromosome = new Chromosome(context, rand);
+            for (int round = 0; round < 50; round++) {
+                chromosome.mutate(round % 10 == 0 ? 1.0 : 0.05, rand);
+                chromosome.moveTask(rand.nextInt(300), rand.nextInt(cores));
+                chromosome.swapTasks(rand.nextInt(300), rand.nextInt(300));
+                chromosome.perturb(rand);
+
+                assertMatchesFullEvaluation(chromosome, context, cores + " cores, round " + round);
+            }
+        }
+    }
+
+    @Test
+    void infeasibleAssignmentsScoreTheLimitPlusTheOverflow() {
+        ProblemContext context = new ProblemContext(new int[]{6, 5, 4, 3}, 8, 3);
+
+        ByteGenome genome = new ByteGenome(4, 3);
+        genome.set(2, 1);
+        genome.set(3, 2);
+        Chromosome chromosome = new Chromosome(genome, context);
+
+        // Core loads 11, 4 and 3: one core is 3 over the limit
+        assertEquals(11, chromosome.fitness);
+        assertEquals(11, chromosome.getMakespan());
+
+        chromosome.moveTask(3, 1);
+        chromosome.moveTask(2, 0);
+
+        // Loads 15, 3 and 0 against a limit of 8
+        assertEquals(15, chromosome.fitness);
+    }
+
+    private static void assertMatchesFullEvaluation(Chromosome chromosome, ProblemContext context, String message) {
+        Genome genome = chromosome.getGenome();
+        long[] expected = BitGenomeTest.referenceLoads(genome, times(context));
+        long[] actual = new long[context.getNumCores()];
+        for (int core = 0; core < actual.length; core++) {
+            actual[core] = chromosome.getLoad(core);
+        }
+        assertArrayEquals(expected, actual, message);
+        assertEquals(new Chromosome(genome.copy(), context).getFitness(), chromosome.getFitness(), message);
+    }
+
+    private static int[] times(ProblemContext context) {
+        int[] times = new int[context.getNumTasks()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = context.getTaskExecutionTime(i);
+        }
+        return times;
+    }
+}
@@ -0,0 +1,122 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class FitnessCacheTest {
+    @Test
+    void recordedLoadsAreLookedUpAndCounted() {
+        FitnessCache cache = new FitnessCache(100, 3);
+        long[] loads = new long[3];
+
+        assertFalse(cache.lookup(42, loads));
+        cache.record(42, new long[]{7, 8, 9});
+
+        assertTrue(cache.lookup(42, loads));
+        assertArrayEquals(new long[]{7, 8, 9}, loads);
+        assertEquals(128, cache.capacity());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void theClockEvictsTheFirstUnreferencedEntry() {
+        // Eight slots make a single set, so every key competes for it
+        FitnessCache cache = new FitnessCache(FitnessCache.WAYS, 2);
+        long[] loads = new long[2];
+        for (long key = 0; key < FitnessCache.WAYS; key++) {
+            cache.record(key, new long[]{key, -key});
+        }
+        for (long key = 0; key < 4; key++) {
+            assertTrue(cache.lookup(key, loads));
+        }
+
+        cache.record(100, new long[]{100, -100});
+
+        assertEquals(1, cache.getEvictions());
+        assertFalse(cache.lookup(4, loads));
+        for (long key : new long[]{0, 1, 2, 3, 5, 6, 7, 100}) {
+            assertTrue(cache.lookup(key, loads), "key " + key);
+            assertArrayEquals(new long[]{key, -key}, loads);
+        }
+    }
+
+    @Test
+    void cachedRunsMatchUncachedRuns() {
+        SplittableRandom rand = new SplittableRandom(5);
+        for (int cores : new int[]{2, 5}) {
+            TestCase testCase = new TestCase(300, Integer.MAX_VALUE, BitGenomeTest.randomTimes(300, rand));
+            String[] args = {"--seed", "4", "--solver", "ga", "--cores", String.valueOf(cores),
+                    "--generations", "60", "--fitness-cache", "0"};
+
+            GAResult plain = TaskAllocationGA.solve(testCase, GAOptions.parse(args));
+            args[args.length - 1] = "1024";
+            GAResult cached = TaskAllocationGA.solve(testCase, GAOptions.parse(args));
+
+            assertEquals(plain.getBestChromosome().getFitness(), cached.getBestChromosome().getFitness());
+            assertArrayEquals(BitGenomeTest.genes(plain.getBestChromosome().getGenome()),
+                    BitGenomeTest.genes(cached.getBestChromosome().getGenome()));
+            assertEquals(plain.getGenerations(), cached.getGenerations());
+        }
+    }
+
+    @Test
+    void aConvergedPopulationBreedsFromTheCache() {
+        int[] times = BitGenomeTest.randomTimes(200, new SplittableRandom(2));
+        ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, 4);
+        Chromosome parent = new Chromosome(context, new SplittableRandom(3));
+        Chromosome[] initial = new Chromosome[64];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new Chromosome(context.newGenome(), context);
+            initial[i].copyFrom(parent);
+        }
+        Population population = new Population(initial, context, 1.0, 0.0,
+                new TournamentSelection(2), new SplittableRandom(1), null);
+        population.setFitnessCache(256);
+
+        population.evolve();
+
+        // Every child is the parent again, so only the first in each chunk misses
+        assertTrue(population.getCacheHits() > population.getCacheMisses(),
+                population.getCacheHits() + " hits, " + population.getCacheMisses() + " misses");
+        assertEquals(parent.getFitness(), population.getBestChromosome().getFitness());
+    }
+
+    @Test
+    void deduplicationLeavesDistinctGenomes() {
+        DuplicateFilter filter = new DuplicateFilter(16);
+        assertTrue(filter.add(1));
+        assertFalse(filter.add(1));
+        assertEquals(1, filter.getDuplicates());
+        filter.clear();
+        assertTrue(filter.add(1));
+
+        int[] times = BitGenomeTest.randomTimes(100, new SplittableRandom(6));
+        ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, 3);
+        Chromosome parent = new Chromosome(context, new SplittableRandom(7));
+        Chromosome[] initial = new Chromosome[40];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = new Chromosome(context.newGenome(), context);
+            initial[i].copyFrom(parent);
+        }
+        Population population = new Population(initial, context, 1.0, 0.0,
+                new TournamentSelection(2), new SplittableRandom(1), null);
+        population.setDeduplication(new SplittableRandom(8));
+
+        population.evolve();
+
+        Set<Long> hashes = new HashSet<>();
+        for (Chromosome chromosome : population.chromosomes) {
+            hashes.add(chromosome.getGenome().longHash());
+        }
+        assertEquals(population.size(), hashes.size());
+        assertTrue(population.getDuplicateFilter().getDuplicates() > 0);
+    }
+}
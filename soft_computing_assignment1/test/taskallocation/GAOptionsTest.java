@@ -0,0 +1,43 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class GAOptionsTest {
+    @Test
+    void exactSolverNeedsTwoCores() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GAOptions.parse(new String[]{"--solver", "exact", "--cores", "4"}));
+        assertEquals("exact", GAOptions.parse(new String[]{"--cores", "4", "--solver", "exact", "--cores", "2"}).solver);
+    }
+
+    @Test
+    void checkpointsAreRejectedInServerMode() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GAOptions.parse(new String[]{"--serve", "0", "--checkpoint-dir", "checkpoints"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> GAOptions.parse(new String[]{"--checkpoint-interval", "0"}));
+    }
+
+    @Test
+    void repairIsOptIn() {
+        assertEquals("penalty", GAOptions.parse(new String[0]).constraints);
+        assertEquals("repair", GAOptions.parse(new String[]{"--constraints", "repair"}).constraints);
+    }
+
+    @Test
+    void rejectsOutOfRangeNumbersWithTheOptionName() {
+        String[][] invalid = {{"--threads", "0"}, {"--islands", "0"}, {"--memetic", "-1"}, {"--cores", "1"},
+                {"--cores", "257"}, {"--parallelism", "0"}, {"--migration-interval", "0"},
+                {"--heuristic-fraction", "1.5"}, {"--deadline-ms", "-5"}};
+        for (String[] args : invalid) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> GAOptions.parse(args));
+            assertTrue(e.getMessage().startsWith(args[0] + " must be"), e.getMessage());
+        }
+        assertEquals(256, GAOptions.parse(new String[]{"--cores", "256"}).cores);
+        assertEquals(0, GAOptions.parse(new String[]{"--memetic", "0"}).memetic);
+    }
+}
@@ -0,0 +1,66 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GenomeArenaTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void offHeapRunsMatchHeapRuns() {
+        SplittableRandom rand = new SplittableRandom(24);
+        for (int cores : new int[]{2, 5}) {
+            TestCase testCase = new TestCase(300, Integer.MAX_VALUE, BitGenomeTest.randomTimes(300, rand));
+            GAResult heap = run(testCase, cores);
+            for (String[] offHeap : new String[][]{{"--off-heap"}, {"--off-heap-dir", directory.toString()}}) {
+                GAResult result = run(testCase, cores, offHeap);
+
+                assertEquals(heap.getBestChromosome().getFitness(), result.getBestChromosome().getFitness());
+                assertArrayEquals(BitGenomeTest.genes(heap.getBestChromosome().getGenome()),
+                        BitGenomeTest.genes(result.getBestChromosome().getGenome()));
+                assertEquals(heap.getGenerations(), result.getGenerations());
+            }
+        }
+    }
+
+    @Test
+    void genomesGetSeparateSlotsAcrossPages() {
+        try (GenomeArena arena = new GenomeArena(100, 3, 2, null)) {
+            assertEquals("ForeignPageAllocator", arena.allocatorName());
+            Genome[] genomes = new Genome[20];
+            for (int i = 0; i < genomes.length; i++) {
+                genomes[i] = arena.allocate();
+                genomes[i].set(i % 100, 1 + i % 2);
+            }
+
+            for (int i = 0; i < genomes.length; i++) {
+                for (int task = 0; task < 100; task++) {
+                    assertEquals(task == i % 100 ? 1 + i % 2 : 0, genomes[i].get(task));
+                }
+            }
+            assertEquals(20, arena.getAllocatedGenomes());
+            // Slots are padded to a cache line: 100 genes take two
+            assertTrue(arena.getReservedBytes() >= 20 * 128, String.valueOf(arena.getReservedBytes()));
+            arena.close();
+            assertThrows(IllegalStateException.class, arena::allocate);
+        }
+    }
+
+    // Seeded GA run with every operator that touches genomes in place
+    private static GAResult run(TestCase testCase, int cores, String... extra) {
+        String[] args = {"--seed", "6", "--solver", "ga", "--cores", String.valueOf(cores), "--generations", "40",
+                "--heuristic-fraction", "0", "--memetic", "2", "--dedup"};
+        String[] all = new String[args.length + extra.length];
+        System.arraycopy(args, 0, all, 0, args.length);
+        System.arraycopy(extra, 0, all, args.length, extra.length);
+        return TaskAllocationGA.solve(testCase, GAOptions.parse(all));
+    }
+}
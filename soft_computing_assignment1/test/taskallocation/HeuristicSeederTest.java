@@ -0,0 +1,81 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class HeuristicSeederTest {
+    @Test
+    void karmarkarKarpDifferencesTheClassicExample() {
+        ProblemContext context = new ProblemContext(new int[]{8, 7, 6, 5, 4}, Integer.MAX_VALUE, 2);
+
+        // Differencing 8-7, 6-5, 4-1 and 3-1 leaves 2, so the loads are 16 and 14
+        Chromosome schedule = new Chromosome(HeuristicSeeder.karmarkarKarp(context), context);
+
+        assertEquals(16, schedule.getFitness());
+    }
+
+    @Test
+    void karmarkarKarpMergesLikeTheTextbookMethod() {
+        SplittableRandom rand = new SplittableRandom(5);
+        for (int cores : new int[]{2, 3, 4, 7}) {
+            for (int round = 0; round < 20; round++) {
+                int[] times = new int[1 + rand.nextInt(60)];
+                for (int i = 0; i < times.length; i++) {
+                    times[i] = 1 + rand.nextInt(1_000_000);
+                }
+                ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, cores);
+
+                Chromosome schedule = new Chromosome(HeuristicSeeder.karmarkarKarp(context), context);
+
+                long[] loads = new long[cores];
+                for (int gene = 0; gene < cores; gene++) {
+                    loads[gene] = schedule.getLoad(gene);
+                }
+                Arrays.sort(loads);
+                assertArrayEquals(referenceKarmarkarKarp(times, cores), loads, "times " + Arrays.toString(times));
+            }
+        }
+    }
+
+    @Test
+    void seedingSkipsTestCasesWithoutTasks() {
+        GAOptions options = GAOptions.parse(new String[]{"--seed", "1", "--cores", "3"});
+        ProblemContext context = new ProblemContext(new int[0], 10, 3);
+
+        Population population = TaskAllocationGA.newPopulation(context, options, options.defaultParameters(),
+                options.randomProvider().forTestCase(0));
+
+        assertEquals(0, population.getBestSoFar().getFitness());
+    }
+
+    // Bin sums of multi-way Karmarkar-Karp on partitions kept as sorted
+    // arrays with explicit empty bins
+    private static long[] referenceKarmarkarKarp(int[] times, int cores) {
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(spread(b), spread(a)));
+        for (int time : times) {
+            long[] sums = new long[cores];
+            sums[cores - 1] = time;
+            queue.add(sums);
+        }
+        while (queue.size() > 1) {
+            long[] a = queue.poll();
+            long[] b = queue.poll();
+            long[] merged = new long[cores];
+            for (int i = 0; i < cores; i++) {
+                merged[i] = a[cores - 1 - i] + b[i];
+            }
+            Arrays.sort(merged);
+            queue.add(merged);
+        }
+        return queue.poll();
+    }
+
+    private static long spread(long[] sortedSums) {
+        return sortedSums[sortedSums.length - 1] - sortedSums[0];
+    }
+}
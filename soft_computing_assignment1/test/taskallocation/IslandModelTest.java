@@ -0,0 +1,101 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(60)
+class IslandModelTest {
+    private static final int ISLANDS = 4;
+
+    @Test
+    void seededRunsAreReproducible() {
+        for (boolean randomTopology : new boolean[]{false, true}) {
+            for (int cores : new int[]{2, 4}) {
+                // A short stagnation window stops islands at different
+                // generations, so the stop has to travel through the exchange
+                TerminationPolicy termination = TerminationPolicy.anyOf(List.of(
+                        TerminationPolicy.maxGenerations(300), TerminationPolicy.stagnation(15)));
+                String first = run(cores, randomTopology, 3, termination);
+
+                for (int round = 0; round < 3; round++) {
+                    assertEquals(first, run(cores, randomTopology, 3, termination),
+                            (randomTopology ? "random" : "ring") + " topology on " + cores + " cores");
+                }
+            }
+        }
+    }
+
+    @Test
+    void migrantsReachEveryIslandOfTheRing() {
+        ProblemContext context = context(2);
+        Population[] islands = islands(context);
+        int best = Integer.MAX_VALUE;
+        for (Population island : islands) {
+            best = Math.min(best, island.getBestSoFar().getFitness());
+        }
+
+        // Each migration moves a best chromosome one island along the ring
+        new IslandModel(islands, context, 1, false, new SplittableRandom(1))
+                .run(TerminationPolicy.maxGenerations(ISLANDS), telemetry(context));
+
+        for (Population island : islands) {
+            assertTrue(island.getBestSoFar().getFitness() <= best);
+        }
+    }
+
+    @Test
+    void aFailingIslandStopsTheRun() {
+        ProblemContext context = context(3);
+        Population[] islands = islands(context);
+        IllegalStateException failure = new IllegalStateException("island 2 failed");
+        TerminationPolicy termination = population -> {
+            if (population == islands[2] && population.getGeneration() == 5) {
+                throw failure;
+            }
+            return null;
+        };
+
+        IslandModel model = new IslandModel(islands, context, 2, true, new SplittableRandom(1));
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> model.run(termination, telemetry(context))));
+    }
+
+    // Fitness, stop reason and generation count of one seeded run
+    private static String run(int cores, boolean randomTopology, int migrationInterval, TerminationPolicy termination) {
+        ProblemContext context = context(cores);
+        IslandModel model = new IslandModel(islands(context), context, migrationInterval, randomTopology,
+                new SplittableRandom(1));
+
+        Chromosome best = model.run(termination, telemetry(context));
+
+        return best.getFitness() + " " + model.getStopReason() + " " + model.getGenerations()
+                + " " + model.getLastImprovement();
+    }
+
+    private static ProblemContext context(int cores) {
+        return new ProblemContext(BitGenomeTest.randomTimes(500, new SplittableRandom(cores)), Integer.MAX_VALUE, cores);
+    }
+
+    private static Population[] islands(ProblemContext context) {
+        GAOptions options = GAOptions.parse(new String[]{"--seed", "1", "--heuristic-fraction", "0",
+                "--population", "20", "--cores", Integer.toString(context.getNumCores())});
+        SplittableRandom rand = new SplittableRandom(2);
+        Population[] islands = new Population[ISLANDS];
+        for (int i = 0; i < ISLANDS; i++) {
+            islands[i] = TaskAllocationGA.newPopulation(context, options, options.defaultParameters(), rand.split());
+        }
+        return islands;
+    }
+
+    private static SolverTelemetry telemetry(ProblemContext context) {
+        return new SolverTelemetry(new TestCase(context.getNumTasks(), context.getMaxTimeLimit(), new int[0]),
+                context, false);
+    }
+}
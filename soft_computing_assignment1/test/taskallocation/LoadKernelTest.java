@@ -0,0 +1,90 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LoadKernelTest {
+    // None a multiple of any lane count, so every kernel runs its tail loop
+    private static final int[] LENGTHS = {1, 7, 63, 65, 999, 4099};
+    // 2 is a BitGenome, the rest ByteGenomes; 12 is past the vector kernel's core limit
+    private static final int[] CORES = {2, 3, 5, 8, 12};
+
+    private final LoadKernel scalar = LoadKernel.create("scalar");
+    private final LoadKernel vector = LoadKernel.create("vector");
+
+    @Test
+    void theVectorKernelIsTheOneUnderTest() {
+        assertTrue(vector.name().startsWith("vector"), vector.name());
+    }
+
+    @Test
+    void vectorLoadsMatchScalarLoads() {
+        SplittableRandom rand = new SplittableRandom(20);
+        for (int length : LENGTHS) {
+            for (int cores : CORES) {
+                int[] times = BitGenomeTest.randomTimes(length, rand);
+                assertSameLoads(new ProblemContext(times, limit(times, cores), cores), rand);
+            }
+        }
+    }
+
+    @Test
+    void vectorLoadsMatchScalarLoadsWhenIntLanesWouldOverflow() {
+        SplittableRandom rand = new SplittableRandom(21);
+        for (int cores : CORES) {
+            // Int lanes are reduced every 64 tasks, far fewer than the genome holds
+            int[] times = rand.ints(4099, 1, 1 << 24).toArray();
+            assertSameLoads(new ProblemContext(times, limit(times, cores), cores), rand);
+        }
+    }
+
+    @Test
+    void vectorLoadsMatchScalarLoadsOffHeap() {
+        SplittableRandom rand = new SplittableRandom(22);
+        for (int cores : CORES) {
+            int[] times = BitGenomeTest.randomTimes(999, rand);
+            try (GenomeArena arena = new GenomeArena(times.length, cores, 16, null)) {
+                assertSameLoads(new ProblemContext(times, limit(times, cores), cores, arena), rand);
+            }
+        }
+    }
+
+    // Single and batched loads of random genomes, and the fitness (with its
+    // infeasibility penalty) a chromosome takes from them
+    private void assertSameLoads(ProblemContext context, SplittableRandom rand) {
+        int cores = context.getNumCores();
+        Genome[] genomes = new Genome[5];
+        long[][] scalarLoads = new long[genomes.length][cores];
+        long[][] vectorLoads = new long[genomes.length][cores];
+        for (int i = 0; i < genomes.length; i++) {
+            genomes[i] = context.newGenome();
+            genomes[i].randomize(rand);
+        }
+
+        scalar.computeLoads(genomes, genomes.length, context, scalarLoads);
+        vector.computeLoads(genomes, genomes.length, context, vectorLoads);
+
+        String where = context.getNumTasks() + " tasks on " + cores + " cores";
+        for (int i = 0; i < genomes.length; i++) {
+            assertArrayEquals(scalarLoads[i], vectorLoads[i], where);
+            long[] single = new long[cores];
+            vector.computeLoads(genomes[i], context, single);
+            assertArrayEquals(scalarLoads[i], single, where);
+            assertEquals(new Chromosome(genomes[i], context, scalarLoads[i]).getFitness(),
+                    new Chromosome(genomes[i], context, vectorLoads[i]).getFitness(), where);
+        }
+    }
+
+    // Below the balanced load, so most random genomes are penalised
+    private static int limit(int[] times, int cores) {
+        long total = 0;
+        for (int time : times) {
+            total += time;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total / cores);
+    }
+}
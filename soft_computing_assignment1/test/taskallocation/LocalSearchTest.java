@@ -0,0 +1,71 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LocalSearchTest {
+    @Test
+    void everyStepLowersTheSquaredLoadsWithoutRaisingTheMakespan() {
+        SplittableRandom rand = new SplittableRandom(13);
+        for (int cores : new int[]{2, 3, 6}) {
+            int[] times = BitGenomeTest.randomTimes(400, rand);
+            ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, cores);
+            LocalSearch search = new LocalSearch(1, 64);
+            for (int round = 0; round < 20; round++) {
+                Chromosome chromosome = new Chromosome(context, rand);
+                for (int step = 0; step < 200; step++) {
+                    long makespan = chromosome.getMakespan();
+                    long squares = squaredLoads(chromosome, cores);
+
+                    if (search.improve(chromosome, context, rand) == 0) {
+                        break;
+                    }
+
+                    assertTrue(chromosome.getMakespan() <= makespan);
+                    assertTrue(squaredLoads(chromosome, cores) < squares);
+                }
+                long[] loads = new long[cores];
+                for (int core = 0; core < cores; core++) {
+                    loads[core] = chromosome.getLoad(core);
+                }
+                assertArrayEquals(BitGenomeTest.referenceLoads(chromosome.getGenome(), times), loads);
+            }
+        }
+    }
+
+    @Test
+    void balancesAnAllOnOneCoreAssignment() {
+        ProblemContext context = new ProblemContext(new int[]{3, 3, 3, 3, 2, 2}, Integer.MAX_VALUE, 2);
+        Chromosome chromosome = new Chromosome(context.newGenome(), context);
+        assertEquals(16, chromosome.getFitness());
+
+        int applied = new LocalSearch(10, 6).improve(chromosome, context, new SplittableRandom(1));
+
+        assertEquals(8, chromosome.getFitness());
+        assertTrue(applied >= 3 && applied <= 10, "applied " + applied);
+    }
+
+    @Test
+    void stopsAfterMaxSteps() {
+        int[] times = new int[100];
+        Arrays.fill(times, 1);
+        ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, 2);
+        Chromosome chromosome = new Chromosome(context.newGenome(), context);
+
+        assertEquals(5, new LocalSearch(5, 100).improve(chromosome, context, new SplittableRandom(1)));
+        assertEquals(95, chromosome.getFitness());
+    }
+
+    private static long squaredLoads(Chromosome chromosome, int cores) {
+        long sum = 0;
+        for (int core = 0; core < cores; core++) {
+            sum += chromosome.getLoad(core) * chromosome.getLoad(core);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class OnlineSchedulerTest {
+    @Test
+    void warmPlansMatchTheLiveTasks() {
+        for (int cores : new int[]{2, 4}) {
+            SplittableRandom rand = new SplittableRandom(cores);
+            int[] times = new int[200];
+            Map<Integer, Integer> live = new HashMap<>();
+            for (int i = 0; i < times.length; i++) {
+                times[i] = 1 + rand.nextInt(1000);
+                live.put(i, times[i]);
+            }
+            GAOptions options = GAOptions.parse(new String[]{"--seed", "3", "--cores", String.valueOf(cores),
+                    "--generations", "50"});
+            OnlineScheduler scheduler = new OnlineScheduler(times, Integer.MAX_VALUE, options);
+            assertPlanMatches(scheduler, scheduler.replan(), live, cores);
+
+            for (int round = 0; round < 20; round++) {
+                for (int change = 0; change < 1 + rand.nextInt(8); change++) {
+                    if (rand.nextBoolean() && live.size() > 1) {
+                        List<Integer> ids = new ArrayList<>(live.keySet());
+                        int id = ids.get(rand.nextInt(ids.size()));
+                        scheduler.removeTask(id);
+                        live.remove(id);
+                    } else {
+                        int time = 1 + rand.nextInt(1000);
+                        live.put(scheduler.addTask(time), time);
+                    }
+                }
+                assertPlanMatches(scheduler, scheduler.replan(), live, cores);
+            }
+        }
+    }
+
+    @Test
+    void emptyScheduleCanBePlanned() {
+        OnlineScheduler scheduler = new OnlineScheduler(new int[]{3, 4}, 10, GAOptions.parse(new String[]{"--seed", "1"}));
+        scheduler.removeTask(0);
+        scheduler.removeTask(1);
+
+        assertEquals(0, scheduler.replan().getBestChromosome().getFitness());
+        int id = scheduler.addTask(5);
+        assertEquals(5, scheduler.replan().getBestChromosome().getFitness());
+        scheduler.removeTask(id);
+        assertThrows(IllegalArgumentException.class, () -> scheduler.removeTask(id));
+    }
+
+    // Every live task is planned, and the result's cached loads agree with
+    // the task times on each core
+    private static void assertPlanMatches(OnlineScheduler scheduler, GAResult result, Map<Integer, Integer> live,
+                                          int cores) {
+        Chromosome best = result.getBestChromosome();
+        assertEquals(live.size(), best.getGenome().length());
+        long[] loads = new long[cores];
+        for (Map.Entry<Integer, Integer> task : live.entrySet()) {
+            loads[cores - scheduler.coreOf(task.getKey())] += task.getValue();
+        }
+        for (int gene = 0; gene < cores; gene++) {
+            assertEquals(loads[gene], best.getLoad(gene));
+        }
+        Chromosome rescored = new Chromosome(best.getGenome().copy(), new ProblemContext(
+                result.getTestCase().taskTimes, result.getTestCase().maxTimeLimit, cores));
+        assertEquals(rescored.getFitness(), best.getFitness());
+    }
+}
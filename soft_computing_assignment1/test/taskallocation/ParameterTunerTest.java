@@ -0,0 +1,61 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(120)
+class ParameterTunerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void tuningIsReproducibleAndFillsOnlyTheInputsBuckets() {
+        SplittableRandom rand = new SplittableRandom(22);
+        List<TestCase> testCases = new ArrayList<>();
+        for (int numTasks : new int[]{8, 9, 60, 70}) {
+            testCases.add(new TestCase(numTasks, Integer.MAX_VALUE, BitGenomeTest.randomTimes(numTasks, rand)));
+        }
+        GAOptions options = GAOptions.parse(new String[]{"--seed", "5", "--threads", "2", "--tune-budget", "2000"});
+
+        TuningProfile first = ParameterTuner.tune(testCases.iterator(), options, quiet());
+        TuningProfile second = ParameterTuner.tune(testCases.iterator(), options, quiet());
+
+        for (int numTasks : new int[]{8, 60}) {
+            assertNotNull(first.lookup(numTasks));
+            assertEquals(first.lookup(numTasks), second.lookup(numTasks));
+        }
+        // Sizes past the largest sampled bucket keep the command-line settings
+        assertNull(first.lookup(500));
+    }
+
+    @Test
+    void profilesRoundTripThroughTheirFile() throws IOException {
+        TuningProfile profile = new TuningProfile();
+        profile.put(100, new GAParameters(50, 200, 0.8, 0.02));
+        profile.put(Integer.MAX_VALUE, new GAParameters(20, 1000, 0.95, 0.001));
+        Path file = directory.resolve("profile.txt");
+
+        profile.save(file);
+        TuningProfile loaded = TuningProfile.load(file);
+
+        assertEquals(new GAParameters(50, 200, 0.8, 0.02), loaded.lookup(1));
+        assertEquals(new GAParameters(50, 200, 0.8, 0.02), loaded.lookup(100));
+        assertEquals(new GAParameters(20, 1000, 0.95, 0.001), loaded.lookup(101));
+    }
+
+    private static PrintStream quiet() {
+        return new PrintStream(OutputStream.nullOutputStream());
+    }
+}
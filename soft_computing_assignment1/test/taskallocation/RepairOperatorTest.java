@@ -0,0 +1,78 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class RepairOperatorTest {
+    @Test
+    void movesOneTaskThatCoversTheWholeExcess() {
+        ProblemContext context = new ProblemContext(new int[]{1, 2, 6, 7}, 10, 2);
+        Chromosome chromosome = new Chromosome(context.newGenome(), context);
+        assertFalse(chromosome.isFeasible());
+
+        assertTrue(new RepairOperator(context, 16).repair(chromosome));
+
+        // Task 2 (time 6) is the cheapest that covers the excess of 6
+        assertArrayEquals(new int[]{0, 0, 1, 0}, BitGenomeTest.genes(chromosome.getGenome()));
+        assertEquals(10, chromosome.getFitness());
+    }
+
+    @Test
+    void movesTheCheapestTasksWhenNoneCoversTheExcess() {
+        ProblemContext context = new ProblemContext(new int[]{2, 2, 2, 2, 2}, 6, 3);
+        Chromosome chromosome = new Chromosome(context.newGenome(), context);
+
+        assertTrue(new RepairOperator(context, 16).repair(chromosome));
+
+        assertEquals(6, chromosome.getLoad(0));
+        assertEquals(2, chromosome.getLoad(1));
+        assertEquals(2, chromosome.getLoad(2));
+    }
+
+    @Test
+    void reportsChromosomesItCannotFix() {
+        // The single task is longer than the limit wherever it goes
+        ProblemContext context = new ProblemContext(new int[]{12, 1}, 10, 2);
+        Chromosome chromosome = new Chromosome(context.newGenome(), context);
+        int penalty = chromosome.getFitness();
+
+        assertFalse(new RepairOperator(context, 16).repair(chromosome));
+
+        assertFalse(chromosome.isFeasible());
+        assertTrue(chromosome.getFitness() <= penalty);
+    }
+
+    @Test
+    void repairsKeepLoadsExactAndNeverRaiseTheMakespan() {
+        SplittableRandom rand = new SplittableRandom(21);
+        for (int cores : new int[]{2, 3, 7}) {
+            int[] times = BitGenomeTest.randomTimes(500, rand);
+            long total = 0;
+            for (int time : times) {
+                total += time;
+            }
+            // Tight enough that most random assignments break it
+            ProblemContext context = new ProblemContext(times, (int) (total * 11 / (10 * cores)), cores);
+            RepairOperator repair = new RepairOperator(context, 64);
+            for (int round = 0; round < 50; round++) {
+                Chromosome chromosome = new Chromosome(context, rand);
+                long makespan = chromosome.getMakespan();
+
+                boolean feasible = repair.repair(chromosome);
+
+                assertEquals(feasible, chromosome.isFeasible());
+                assertTrue(chromosome.getMakespan() <= makespan);
+                long[] loads = new long[cores];
+                for (int core = 0; core < cores; core++) {
+                    loads[core] = chromosome.getLoad(core);
+                }
+                assertArrayEquals(BitGenomeTest.referenceLoads(chromosome.getGenome(), times), loads);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ResultWriterTest {
+    @Test
+    void everyFormatLabelsCoresTheSameWay() throws IOException {
+        TestCase testCase = new TestCase(4, 100, new int[]{1, 2, 3, 4});
+        ProblemContext context = new ProblemContext(testCase, 3);
+        Genome genome = context.newGenome();
+        // Genes 2, 1, 0, 2: cores 1, 2, 3, 1
+        genome.set(0, 2);
+        genome.set(1, 1);
+        genome.set(3, 2);
+        GAResult result = new GAResult(new Chromosome(genome, context), testCase, "exact", 0);
+
+        assertEquals("Test Case 1:\nBest fitness: 5\nChromosome: 1 2 3 1 \n"
+                        + "Core 1 tasks: 0 3 \nCore 1 total time: 5\n"
+                        + "Core 2 tasks: 1 \nCore 2 total time: 2\n"
+                        + "Core 3 tasks: 2 \nCore 3 total time: 3\n"
+                        + "Stopped by: exact after 0 generations\n\n",
+                write("text", writer -> writer.write(0, result)));
+        assertEquals("1,4,3,5,true,exact,0,5 2 3,1 2 3 1\n",
+                write("csv", writer -> writer.write(0, result)).split("\n", 2)[1]);
+        assertEquals("{\"testCase\":1,\"numTasks\":4,\"numCores\":3,\"fitness\":5,\"feasible\":true,"
+                        + "\"stopReason\":\"exact\",\"generations\":0,\"coreLoads\":[5,2,3],\"assignment\":[1,2,3,1]}\n",
+                write("jsonl", writer -> writer.write(0, result)));
+
+        ByteBuffer binary = ByteBuffer.wrap(write("binary", writer -> writer.write(0, result))
+                .getBytes(StandardCharsets.ISO_8859_1));
+        binary.position(8 + 20 + 1 + "exact".length());
+        assertEquals(5, binary.getLong());
+        assertEquals(2, binary.getLong());
+        assertEquals(3, binary.getLong());
+        byte[] assignment = new byte[4];
+        binary.get(assignment);
+        // core - 1
+        assertArrayEquals(new byte[]{0, 1, 2, 0}, assignment);
+    }
+
+    @Test
+    void twoCoreChromosomesAreLabelledAsCores() throws IOException {
+        TestCase testCase = new TestCase(3, 100, new int[]{5, 6, 7});
+        ProblemContext context = new ProblemContext(testCase, 2);
+        Genome genome = context.newGenome();
+        genome.set(0, 1);
+        GAResult result = new GAResult(new Chromosome(genome, context), testCase, "exact", 0);
+
+        String text = write("text", writer -> writer.write(0, result));
+
+        // Gene 1 is core 1 and gene 0 core 2
+        assertEquals("Chromosome: 1 2 2 ", text.split("\n")[2]);
+        assertEquals("Core 1 tasks: 0 ", text.split("\n")[3]);
+    }
+
+    @Test
+    void textLabelsTheInfeasiblePenalty() throws IOException {
+        TestCase testCase = new TestCase(2, 5, new int[]{10, 10});
+        ProblemContext context = new ProblemContext(testCase, 2);
+        Genome genome = context.newGenome();
+        genome.set(1, 1);
+        GAResult result = new GAResult(new Chromosome(genome, context), testCase, "exact", 0);
+
+        String text = write("text", writer -> writer.write(0, result));
+
+        assertTrue(text.startsWith("Test Case 1:\nBest fitness: 15 (infeasible penalty, makespan 10)\n"), text);
+    }
+
+    @Test
+    void errorsFollowTheFormat() throws IOException {
+        assertEquals("Error: bad \"input\"\n", write("csv", writer -> writer.writeError("bad \"input\"")));
+        assertEquals("{\"error\":\"bad \\\"input\\\"\"}\n", write("jsonl", writer -> writer.writeError("bad \"input\"")));
+
+        ByteBuffer binary = ByteBuffer.wrap(write("binary", writer -> writer.writeError("bad"))
+                .getBytes(StandardCharsets.ISO_8859_1));
+        assertEquals(0x47415253, binary.getInt());
+        assertEquals(2, binary.getInt());
+        assertEquals(0, binary.getInt());
+        assertEquals(3, binary.getInt());
+        byte[] message = new byte[binary.remaining()];
+        binary.get(message);
+        assertArrayEquals("bad".getBytes(StandardCharsets.UTF_8), message);
+    }
+
+    private interface Output {
+        void writeTo(ResultWriter writer) throws IOException;
+    }
+
+    private static String write(String format, Output output) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ResultWriter writer = ResultWriter.create(format, Channels.newChannel(bytes));
+        output.writeTo(writer);
+        writer.flush();
+        return bytes.toString(StandardCharsets.ISO_8859_1);
+    }
+}
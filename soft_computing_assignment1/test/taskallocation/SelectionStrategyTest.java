@@ -0,0 +1,104 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SelectionStrategyTest {
+    private static final int DRAWS = 200_000;
+    private static final double TOLERANCE = 0.01;
+
+    @Test
+    void rouletteSlicesFollowTheDistanceFromTheWorstFeasible() {
+        // Limit 10: fitness 12 is infeasible and must never be picked
+        Chromosome[] population = population(10, 4, 7, 12, 10, 9);
+
+        double[] frequencies = frequencies(new RouletteWheelSelection(), population);
+
+        // Slices 10-4+1, 10-7+1, 0, 10-10+1 and 10-9+1
+        assertFrequencies(new double[]{7 / 14.0, 4 / 14.0, 0, 1 / 14.0, 2 / 14.0}, frequencies);
+    }
+
+    @Test
+    void rouletteFavoursTheSmallestOverloadWhenNothingIsFeasible() {
+        Chromosome[] population = population(10, 11, 14, 12);
+
+        double[] frequencies = frequencies(new RouletteWheelSelection(), population);
+
+        // The worst fitness, 14, is the reference: slices 4, 1 and 3
+        assertFrequencies(new double[]{4 / 8.0, 1 / 8.0, 3 / 8.0}, frequencies);
+    }
+
+    @Test
+    void rankWeightsDependOnlyOnTheOrder() {
+        Chromosome[] population = population(1000, 500, 3, 900, 4);
+
+        double[] frequencies = frequencies(new RankSelection(), population);
+
+        // Ranks 3, 1, 4 and 2 of 4, weighted 4..1 out of 10
+        assertFrequencies(new double[]{2 / 10.0, 4 / 10.0, 1 / 10.0, 3 / 10.0}, frequencies);
+    }
+
+    @Test
+    void tournamentsOfOneAreUniform() {
+        Chromosome[] population = population(100, 5, 50, 20, 80);
+
+        double[] frequencies = frequencies(new TournamentSelection(1), population);
+
+        assertFrequencies(new double[]{0.25, 0.25, 0.25, 0.25}, frequencies);
+    }
+
+    @Test
+    void largerTournamentsPickTheBestOfTheDraws() {
+        Chromosome[] population = population(100, 40, 10, 30, 20);
+
+        double[] frequencies = frequencies(new TournamentSelection(3), population);
+
+        // The i-th best wins when it is drawn and nothing better is:
+        // ((5 - i)^3 - (4 - i)^3) / 4^3
+        assertFrequencies(new double[]{1 / 64.0, 37 / 64.0, 7 / 64.0, 19 / 64.0}, frequencies);
+    }
+
+    @Test
+    void strategiesAreCreatedByName() {
+        assertInstanceOf(RouletteWheelSelection.class, SelectionStrategy.create("roulette"));
+        assertInstanceOf(RankSelection.class, SelectionStrategy.create("rank"));
+        assertInstanceOf(TournamentSelection.class, SelectionStrategy.create("tournament:5"));
+        assertThrows(IllegalArgumentException.class, () -> SelectionStrategy.create("tournament:0"));
+        assertThrows(IllegalArgumentException.class, () -> SelectionStrategy.create("truncation"));
+    }
+
+    // One single-task chromosome per fitness value, all on core 1
+    private static Chromosome[] population(int limit, int... fitness) {
+        Chromosome[] population = new Chromosome[fitness.length];
+        for (int i = 0; i < fitness.length; i++) {
+            ProblemContext context = new ProblemContext(new int[]{fitness[i]}, limit, 2);
+            population[i] = new Chromosome(new BitGenome(new int[]{1}), context);
+        }
+        return population;
+    }
+
+    private static double[] frequencies(SelectionStrategy strategy, Chromosome[] population) {
+        strategy.prepare(population);
+        SplittableRandom rand = new SplittableRandom(8);
+        double[] frequencies = new double[population.length];
+        for (int draw = 0; draw < DRAWS; draw++) {
+            Chromosome picked = strategy.select(rand);
+            for (int i = 0; i < population.length; i++) {
+                if (population[i] == picked) {
+                    frequencies[i] += 1.0 / DRAWS;
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    private static void assertFrequencies(double[] expected, double[] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], expected[i] == 0 ? 0 : TOLERANCE, "chromosome " + i);
+        }
+    }
+}
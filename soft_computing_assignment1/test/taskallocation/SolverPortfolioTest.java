@@ -0,0 +1,67 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(60)
+class SolverPortfolioTest {
+    @Test
+    void aScheduleAtTheBoundEndsTheRace() {
+        TestCase testCase = new TestCase(4, 100, new int[]{3, 5, 4, 4});
+
+        GAResult result = race(testCase, "--cores", "2");
+
+        assertTrue(result.getStopReason().startsWith("optimal-by-bound/"), result.getStopReason());
+        assertEquals(8, result.getBestChromosome().getFitness());
+    }
+
+    @Test
+    void theExactSolverEndsRacesTheBoundCannot() {
+        // Bound 15, optimum 20: only the DP can prove it
+        TestCase testCase = new TestCase(3, 100, new int[]{10, 10, 10});
+
+        GAResult result = race(testCase, "--cores", "2", "--generations", "100000000");
+
+        assertTrue(result.getStopReason().startsWith("exact/"), result.getStopReason());
+        assertEquals(20, result.getBestChromosome().getFitness());
+        // The race hands its DP memory back
+        long budget = SubsetSumSolver.tableBudget();
+        assertTrue(SubsetSumSolver.tryReserveTables(budget));
+        SubsetSumSolver.releaseTables(budget);
+    }
+
+    @Test
+    void deadlinesCancelEverySolver() {
+        int[] times = new SplittableRandom(25).ints(2000, 1, 10_000_000).toArray();
+        TestCase testCase = new TestCase(times.length, Integer.MAX_VALUE, times);
+        long start = System.nanoTime();
+
+        GAResult result = race(testCase, "--cores", "5", "--generations", "100000000", "--deadline-ms", "300");
+
+        assertTrue(System.nanoTime() - start < 20_000_000_000L);
+        assertTrue(result.getStopReason().startsWith("deadline/"), result.getStopReason());
+        Chromosome best = result.getBestChromosome();
+        long[] loads = new long[5];
+        for (int core = 0; core < loads.length; core++) {
+            loads[core] = best.getLoad(core);
+        }
+        assertArrayEquals(BitGenomeTest.referenceLoads(best.getGenome(), times), loads);
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            assertFalse(thread.getName().startsWith("portfolio-") && thread.isAlive(), thread.getName());
+        }
+    }
+
+    private static GAResult race(TestCase testCase, String... args) {
+        String[] options = new String[args.length + 2];
+        options[0] = "--seed";
+        options[1] = "1";
+        System.arraycopy(args, 0, options, 2, args.length);
+        return SolverPortfolio.solve(testCase, GAOptions.parse(options));
+    }
+}
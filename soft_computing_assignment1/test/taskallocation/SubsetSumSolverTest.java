@@ -0,0 +1,107 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class SubsetSumSolverTest {
+    @Test
+    void matchesBruteForceOnSmallInstances() {
+        SplittableRandom rand = new SplittableRandom(11);
+        for (int round = 0; round < 200; round++) {
+            int[] times = new int[rand.nextInt(15)];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = rand.nextInt(round % 2 == 0 ? 50 : 5000);
+            }
+            ProblemContext context = new ProblemContext(times, Integer.MAX_VALUE, 2);
+
+            Chromosome optimum = SubsetSumSolver.solve(context);
+
+            assertEquals(bruteForceMakespan(times), optimum.getFitness(), "times " + Arrays.toString(times));
+            long core1 = 0;
+            for (int i = 0; i < times.length; i++) {
+                core1 += optimum.getGenome().get(i) == 1 ? times[i] : 0;
+            }
+            assertEquals(core1, optimum.getLoad(1));
+            assertEquals(context.getTotalTime() - core1, optimum.getLoad(0));
+        }
+    }
+
+    @Test
+    void dispatchesOnlyCheapTwoCoreInstances() {
+        assertTrue(SubsetSumSolver.isTractable(new ProblemContext(new int[]{3, 5, 7}, 100, 2)));
+        assertFalse(SubsetSumSolver.isTractable(new ProblemContext(new int[]{3, 5, 7}, 100, 3)));
+        // Half sum over 2^24
+        assertFalse(SubsetSumSolver.isTractable(new ProblemContext(new int[]{1 << 24, 1 << 24, 2}, 100, 2)));
+    }
+
+    @Test
+    @Timeout(30)
+    void waitsForTheSharedTableBudget() throws Exception {
+        ProblemContext context = new ProblemContext(new int[]{3, 5, 7, 11}, 100, 2);
+        long budget = SubsetSumSolver.tableBudget();
+        assertTrue(SubsetSumSolver.tryReserveTables(budget));
+        CompletableFuture<Chromosome> solve;
+        try {
+            assertFalse(SubsetSumSolver.tryReserveTables(1));
+            solve = CompletableFuture.supplyAsync(() -> SubsetSumSolver.solveWithinBudget(context));
+
+            assertThrowsTimeout(solve);
+        } finally {
+            SubsetSumSolver.releaseTables(budget);
+        }
+
+        assertEquals(14, solve.get().getFitness());
+        // Everything the solve took has been handed back
+        assertTrue(SubsetSumSolver.tryReserveTables(budget));
+        SubsetSumSolver.releaseTables(budget);
+    }
+
+    @Test
+    void returnsNullOnceCancelled() {
+        ProblemContext context = new ProblemContext(new int[]{3, 5, 7, 11}, 100, 2);
+
+        assertNull(SubsetSumSolver.solve(context, () -> true));
+    }
+
+    @Test
+    void hasNoTablesForMoreThanTwoCores() {
+        assertEquals(-1, SubsetSumSolver.tableBytes(new ProblemContext(new int[]{3, 5, 7}, 100, 3)));
+    }
+
+    private static void assertThrowsTimeout(CompletableFuture<Chromosome> solve) throws Exception {
+        try {
+            solve.get(200, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException expected) {
+            return;
+        }
+        throw new AssertionError("solveWithinBudget ran while the budget was taken");
+    }
+
+    private static long bruteForceMakespan(int[] times) {
+        long total = 0;
+        for (int time : times) {
+            total += time;
+        }
+        long best = total;
+        for (int mask = 0; mask < 1 << times.length; mask++) {
+            long load = 0;
+            for (int i = 0; i < times.length; i++) {
+                if ((mask >>> i & 1) != 0) {
+                    load += times[i];
+                }
+            }
+            best = Math.min(best, Math.max(load, total - load));
+        }
+        return best;
+    }
+}
@@ -0,0 +1,74 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class TerminationPolicyTest {
+    // Large random times: the GA alone practically never meets the bound
+    private static final TestCase HARD = new TestCase(200, Integer.MAX_VALUE,
+            new SplittableRandom(9).ints(200, 1, 10_000_000).toArray());
+
+    @Test
+    void runsStopAtTheGenerationLimit() {
+        GAResult result = run("--generations", "40");
+
+        assertEquals("max-generations", result.getStopReason());
+        assertEquals(40, result.getGenerations());
+    }
+
+    @Test
+    void seededOptimaStopTheRunBeforeTheFirstGeneration() {
+        TestCase testCase = new TestCase(4, 100, new int[]{3, 5, 4, 4});
+        GAOptions options = GAOptions.parse(new String[]{"--seed", "1", "--solver", "ga"});
+
+        GAResult result = TaskAllocationGA.solve(testCase, options);
+
+        assertEquals("optimal-by-bound", result.getStopReason());
+        assertEquals(0, result.getGenerations());
+        assertEquals(8, result.getBestChromosome().getFitness());
+    }
+
+    @Test
+    void stagnationCountsGenerationsSinceTheLastImprovement() {
+        GAResult result = run("--stagnation", "5");
+
+        assertEquals("stagnation", result.getStopReason());
+        assertEquals(5, result.getGenerations() - result.getLastImprovement());
+    }
+
+    @Test
+    void aTargetGapStopsWithinTheGapOfTheBound() {
+        GAResult result = run("--target-gap", "0.2");
+
+        long bound = new ProblemContext(HARD).getLowerBound();
+        assertEquals("target-gap", result.getStopReason());
+        assertTrue(result.getBestChromosome().getFitness() <= bound * 1.2);
+    }
+
+    @Test
+    void evaluationBudgetsCountEveryBredChromosome() {
+        GAResult result = run("--population", "50", "--max-evaluations", "1000");
+
+        assertEquals("evaluation-budget", result.getStopReason());
+        // 50 initial chromosomes, then 50 per generation
+        assertEquals(19, result.getGenerations());
+    }
+
+    @Test
+    void deadlinesStopLongRuns() {
+        GAResult result = run("--generations", "100000000", "--deadline-ms", "50");
+
+        assertEquals("deadline", result.getStopReason());
+    }
+
+    // Seeded GA run on HARD without heuristic seeds, plus the given options
+    private static GAResult run(String... args) {
+        String[] options = new String[args.length + 6];
+        System.arraycopy(new String[]{"--seed", "1", "--solver", "ga", "--heuristic-fraction", "0"}, 0, options, 0, 6);
+        System.arraycopy(args, 0, options, 6, args.length);
+        return TaskAllocationGA.solve(HARD, GAOptions.parse(options));
+    }
+}
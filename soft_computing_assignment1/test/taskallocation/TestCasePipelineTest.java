@@ -0,0 +1,58 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(30)
+class TestCasePipelineTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void handsOverTestCasesInInputOrder() throws IOException {
+        StringBuilder input = new StringBuilder("50\n");
+        for (int i = 0; i < 50; i++) {
+            input.append(i).append('\n').append(2).append('\n').append(i).append(' ').append(1).append('\n');
+        }
+
+        List<Integer> limits = new ArrayList<>();
+        try (TestCasePipeline pipeline = new TestCasePipeline(write(input.toString()), 1)) {
+            for (TestCase testCase : pipeline) {
+                assertEquals(limits.size(), testCase.index);
+                limits.add(testCase.maxTimeLimit);
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, limits.get(i));
+        }
+    }
+
+    @Test
+    void parseErrorsReachTheConsumerAfterTheGoodTestCases() throws IOException {
+        try (TestCasePipeline pipeline = new TestCasePipeline(write("3\n10\n1\n5\n10\n1\n?\n10\n1\n5\n"), 2)) {
+            Iterator<TestCase> testCases = pipeline.iterator();
+
+            assertEquals(0, testCases.next().index);
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, testCases::hasNext);
+            assertEquals("Unexpected character '?' at byte 14", e.getCause().getMessage());
+            // Asking again does not block on the drained queue
+            assertThrows(UncheckedIOException.class, testCases::hasNext);
+        }
+    }
+
+    private Path write(String input) throws IOException {
+        return Files.writeString(directory.resolve("input.txt"), input);
+    }
+}
@@ -0,0 +1,118 @@
+package taskallocation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestCaseReaderTest {
+    private static final String INPUT = "2\r\n100\r\n3\r\n10 20\t30\r\n7\n0\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsMappedFiles() throws IOException {
+        try (TestCaseReader reader = new TestCaseReader(write(INPUT))) {
+            assertTestCases(reader);
+        }
+    }
+
+    @Test
+    void readsStreamsThatDeliverOneByteAtATime() throws IOException {
+        try (TestCaseReader reader = new TestCaseReader(trickle(INPUT))) {
+            assertTestCases(reader);
+        }
+    }
+
+    @Test
+    void reportsTruncatedInput() throws IOException {
+        try (TestCaseReader reader = new TestCaseReader(write("2\n100\n3\n10 20 30\n7\n"))) {
+            reader.next();
+
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::next);
+            assertEquals("Unexpected end of input after 1 test cases", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    void reportsMalformedNumbers() throws IOException {
+        try (TestCaseReader reader = new TestCaseReader(write("1\n100\n2\n10 2x\n"))) {
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::next);
+            assertEquals("Unexpected character 'x' at byte 12", e.getCause().getMessage());
+        }
+        try (TestCaseReader reader = new TestCaseReader(write("1\n100\n1\n2147483648\n"))) {
+            assertThrows(UncheckedIOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void rejectsTaskCountsTheInputCannotHold() throws IOException {
+        try (TestCaseReader reader = new TestCaseReader(write("1\n100\n1000000000\n1 2 3\n"))) {
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, reader::next);
+            assertEquals("Test case 0 declares 1000000000 tasks but only 6 bytes of input remain",
+                    e.getCause().getMessage());
+        }
+        try (TestCaseReader reader = new TestCaseReader(write("1\n100\n-3\n1 2 3\n"))) {
+            assertThrows(UncheckedIOException.class, reader::next);
+        }
+    }
+
+    private Path write(String input) throws IOException {
+        return Files.writeString(directory.resolve("input.txt"), input);
+    }
+
+    private static void assertTestCases(TestCaseReader reader) {
+        assertTrue(reader.hasNext());
+        TestCase first = reader.next();
+        assertEquals(0, first.index);
+        assertEquals(100, first.maxTimeLimit);
+        assertArrayEquals(new int[]{10, 20, 30}, first.taskTimes);
+
+        TestCase second = reader.next();
+        assertEquals(1, second.index);
+        assertEquals(7, second.maxTimeLimit);
+        assertEquals(0, second.numTasks);
+        assertFalse(reader.hasNext());
+    }
+
+    // Channel that returns a single byte per read, so every number straddles a refill
+    static ReadableByteChannel trickle(String input) {
+        ReadableByteChannel source = Channels.newChannel(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer buffer) throws IOException {
+                ByteBuffer one = ByteBuffer.allocate(1);
+                int read = source.read(one);
+                if (read > 0) {
+                    buffer.put(one.flip());
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return source.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                source.close();
+            }
+        };
+    }
+}